@@ -0,0 +1,61 @@
+// DuckUpdateBenchmark.java
+package duckhunt.benchmarks;
+
+import duckhunt.DuckWorld;
+import duckhunt.GameConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one simulation tick of duck movement, whole-world versus per-duck.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DuckUpdateBenchmark {
+    @Param({"1", "3", "100", "1000", "10000"})
+    public int duckCount;
+
+    private DuckWorld world;
+
+    @Setup
+    public void setup() {
+        world = new DuckWorld(duckCount);
+        Random random = new Random(42);
+        for (int i = 0; i < duckCount; i++) {
+            world.spawn(i % GameConstants.DUCK_COLORS.length,
+                    random.nextDouble() * DuckWorld.MAX_X, random.nextDouble() * DuckWorld.MAX_Y,
+                    random.nextBoolean() ? 5 : -5, random.nextBoolean() ? 5 : -5);
+        }
+    }
+
+    @Benchmark
+    public void worldTick(Blackhole blackhole) {
+        world.tick();
+        blackhole.consume(world.getX(0));
+    }
+
+    @Benchmark
+    public void stepEachDuck(Blackhole blackhole) {
+        for (int i = 0; i < duckCount; i++) {
+            world.step(i);
+        }
+        blackhole.consume(world.getX(0));
+    }
+}
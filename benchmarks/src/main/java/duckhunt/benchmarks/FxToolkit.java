@@ -0,0 +1,27 @@
+// FxToolkit.java
+package duckhunt.benchmarks;
+
+import javafx.application.Platform;
+
+/**
+ * Starts the JavaFX toolkit once per benchmark JVM.
+ * Image decoding and media players need the toolkit even without a stage.
+ */
+final class FxToolkit {
+    private static boolean started = false;
+
+    private FxToolkit() {
+    }
+
+    static synchronized void start() {
+        if (started) {
+            return;
+        }
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException e) {
+            // Already running in this JVM
+        }
+        started = true;
+    }
+}
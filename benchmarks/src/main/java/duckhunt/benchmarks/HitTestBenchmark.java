@@ -0,0 +1,83 @@
+// HitTestBenchmark.java
+package duckhunt.benchmarks;
+
+import duckhunt.DuckWorld;
+import duckhunt.GameConstants;
+import duckhunt.HitMasks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of resolving one shot: spatial grid query versus scanning every duck,
+ * with and without the per-pixel sprite mask test after the bounding box.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HitTestBenchmark {
+    private static final int SHOT_COUNT = 1024;
+
+    @Param({"1", "3", "100", "1000", "10000"})
+    public int duckCount;
+
+    @Param({"true", "false"})
+    public boolean pixelMasks;
+
+    private DuckWorld world;
+    private final double[] shotX = new double[SHOT_COUNT];
+    private final double[] shotY = new double[SHOT_COUNT];
+    private int[] hits;
+    private int shot = 0;
+
+    @Setup
+    public void setup() {
+        world = new DuckWorld(duckCount);
+        world.setPixelHitTest(pixelMasks);
+        if (pixelMasks) {
+            HitMasks.getDuckMasks();
+        }
+        hits = new int[duckCount];
+        Random random = new Random(42);
+        for (int i = 0; i < duckCount; i++) {
+            world.spawn(i % GameConstants.DUCK_COLORS.length,
+                    random.nextDouble() * DuckWorld.MAX_X, random.nextDouble() * DuckWorld.MAX_Y, 5, 5);
+        }
+        for (int i = 0; i < SHOT_COUNT; i++) {
+            shotX[i] = random.nextDouble() * GameConstants.WINDOW_WIDTH;
+            shotY[i] = random.nextDouble() * GameConstants.WINDOW_HEIGHT;
+        }
+    }
+
+    @Benchmark
+    public int gridQuery() {
+        int n = shot++ & (SHOT_COUNT - 1);
+        return world.hitTest(shotX[n], shotY[n], hits);
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int n = shot++ & (SHOT_COUNT - 1);
+        int found = 0;
+        for (int i = 0; i < duckCount; i++) {
+            if (world.contains(i, shotX[n], shotY[n])) {
+                hits[found++] = i;
+            }
+        }
+        return found;
+    }
+}
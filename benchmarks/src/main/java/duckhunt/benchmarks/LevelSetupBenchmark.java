@@ -0,0 +1,60 @@
+// LevelSetupBenchmark.java
+package duckhunt.benchmarks;
+
+import duckhunt.AudioManager;
+import duckhunt.GameSimulation;
+import duckhunt.LevelManager;
+import javafx.scene.layout.Pane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of starting a level: the headless spawn alone, and the full JavaFX
+ * path that also gives every duck a view. Ducks and views come from the
+ * LevelManager's pool after the first invocation; pass -jvmArgs
+ * -Dduckhunt.duckPool=0 to measure building them each time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelSetupBenchmark {
+    @Param({"1", "3", "100", "1000"})
+    public int duckCount;
+
+    private GameSimulation simulation;
+    private LevelManager levelManager;
+
+    @Setup
+    public void setup() {
+        FxToolkit.start();
+        simulation = new GameSimulation(42);
+        levelManager = new LevelManager(new AudioManager());
+    }
+
+    @Benchmark
+    public GameSimulation simulationOnly() {
+        simulation.startLevel(duckCount);
+        return simulation;
+    }
+
+    @Benchmark
+    public Pane withViews() {
+        Pane pane = new Pane();
+        levelManager.createDucks(duckCount, pane);
+        return pane;
+    }
+}
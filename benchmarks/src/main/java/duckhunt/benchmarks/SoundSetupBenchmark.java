@@ -0,0 +1,63 @@
+// SoundSetupBenchmark.java
+package duckhunt.benchmarks;
+
+import duckhunt.SoundEffects;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of firing a gunshot: building a fresh Media and MediaPlayer per call
+ * (the old AudioManager path) versus reusing a pooled voice. Volume is zero.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SoundSetupBenchmark {
+    private static final String GUNSHOT = "assets/effects/Gunshot.mp3";
+
+    private String gunshotUrl;
+    private SoundEffects soundEffects;
+
+    @Setup
+    public void setup() {
+        FxToolkit.start();
+        gunshotUrl = new File(GUNSHOT).toURI().toString();
+        soundEffects = new SoundEffects(0);
+        soundEffects.preload(GUNSHOT, 4);
+    }
+
+    @TearDown
+    public void tearDown() {
+        soundEffects.dispose();
+    }
+
+    @Benchmark
+    public void playerPerShot() {
+        MediaPlayer player = new MediaPlayer(new Media(gunshotUrl));
+        player.setVolume(0);
+        player.play();
+        player.dispose();
+    }
+
+    @Benchmark
+    public void pooledVoice() {
+        soundEffects.play(GUNSHOT);
+    }
+}
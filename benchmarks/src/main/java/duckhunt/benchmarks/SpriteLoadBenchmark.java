@@ -0,0 +1,63 @@
+// SpriteLoadBenchmark.java
+package duckhunt.benchmarks;
+
+import duckhunt.Assets;
+import duckhunt.SpriteCache;
+import duckhunt.TextureAtlas;
+import javafx.scene.image.Image;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of getting a duck frame: decoding the loose PNG, slicing it out of the
+ * atlas, and the shared SpriteCache lookup the game uses. Run from the project
+ * root so assets/ resolves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpriteLoadBenchmark {
+    private static final int SIZE = (int) SpriteCache.DUCK_SIZE;
+
+    private String frameUrl;
+    private TextureAtlas atlas;
+    private int frame = 0;
+
+    @Setup
+    public void setup() {
+        FxToolkit.start();
+        frameUrl = new File("assets/duck_black/1.png").toURI().toString();
+        atlas = Assets.getAtlas();
+        SpriteCache.preload();
+    }
+
+    @Benchmark
+    public Image decodeFromFile() {
+        return new Image(frameUrl, SIZE, SIZE, false, false);
+    }
+
+    @Benchmark
+    public Image sliceFromAtlas() {
+        return atlas != null ? atlas.slice("duck_black/1", SIZE, SIZE) : null;
+    }
+
+    @Benchmark
+    public Image cachedLookup() {
+        frame = frame % SpriteCache.FRAME_COUNT + 1;
+        return SpriteCache.getDuckFrame(0, frame);
+    }
+}
@@ -1,14 +0,0 @@
-// GameConstants.java
-/**
- * Contains all game configuration constants
- */
-public class GameConstants {
-    public static final double SCALE = 3.0;
-    public static final double VOLUME = 0.025;
-    public static final int WINDOW_WIDTH = (int)(256 * SCALE);
-    public static final int WINDOW_HEIGHT = (int)(240 * SCALE);
-    public static final int TOTAL_LEVELS = 6;
-}
-
-
-
@@ -0,0 +1,106 @@
+// AnimationScheduler.java
+package duckhunt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single clock for every timed effect on screen: text blinking and one-shot
+ * delays. The game loop advances it by one fixed step at a time, so the
+ * number of live timers does not grow with the duck count and nothing
+ * registers its own pulse listener with the toolkit. Wing flaps are not
+ * scheduled here; they follow the simulation tick (DuckWorld.FLAP_TICKS).
+ */
+public class AnimationScheduler {
+
+    /**
+     * Handle to a scheduled action; cancel() stops it before its next run
+     */
+    public static final class Task {
+        private final Runnable action;
+        private final long periodNanos;
+        private long dueNanos;
+        private boolean cancelled = false;
+
+        private Task(Runnable action, long dueNanos, long periodNanos) {
+            this.action = action;
+            this.dueNanos = dueNanos;
+            this.periodNanos = periodNanos;
+        }
+
+        public void cancel() { cancelled = true; }
+        public boolean isCancelled() { return cancelled; }
+    }
+
+    private final List<Task> tasks = new ArrayList<>();
+    private long nowNanos = 0;
+    private boolean hasCancelled = false;
+
+    /**
+     * Runs the action every periodNanos, first one period from now
+     */
+    public Task every(long periodNanos, Runnable action) {
+        if (periodNanos <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " + periodNanos);
+        }
+        Task task = new Task(action, nowNanos + periodNanos, periodNanos);
+        tasks.add(task);
+        return task;
+    }
+
+    /**
+     * Runs the action once, delayNanos from now
+     */
+    public Task after(long delayNanos, Runnable action) {
+        Task task = new Task(action, nowNanos + Math.max(0, delayNanos), 0);
+        tasks.add(task);
+        return task;
+    }
+
+    /**
+     * Moves the clock forward and runs every action that came due.
+     * Actions may schedule or cancel tasks, including themselves.
+     */
+    public void advance(long nanos) {
+        nowNanos += nanos;
+
+        for (int t = 0; t < tasks.size(); t++) {
+            Task task = tasks.get(t);
+            if (task.cancelled || nowNanos < task.dueNanos) {
+                hasCancelled |= task.cancelled;
+                continue;
+            }
+
+            if (task.periodNanos > 0) {
+                task.dueNanos += task.periodNanos;
+                // A long stall runs the action once instead of replaying every missed period
+                if (task.dueNanos <= nowNanos) {
+                    task.dueNanos = nowNanos + task.periodNanos;
+                }
+            } else {
+                task.cancelled = true;
+                hasCancelled = true;
+            }
+            task.action.run();
+        }
+
+        if (hasCancelled) {
+            tasks.removeIf(Task::isCancelled);
+            hasCancelled = false;
+        }
+    }
+
+    /**
+     * Cancels every scheduled task
+     */
+    public void clear() {
+        for (int t = 0; t < tasks.size(); t++) {
+            tasks.get(t).cancel();
+        }
+        tasks.clear();
+    }
+
+    // Getters
+    public int getTaskCount() { return tasks.size(); }
+    public long getNanos() { return nowNanos; }
+}
@@ -0,0 +1,139 @@
+// AssetLoader.java
+package duckhunt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Warms every image and sound the game needs on a small pool of worker
+ * threads while the title screen is up. Each asset is one task that records
+ * its own load time; the FX thread only polls getCompleted() and isDone(),
+ * so nothing blocks it. Once isDone() returns true every listed asset sits in
+ * the Assets or SoundEffects caches.
+ */
+public class AssetLoader {
+    public static final int WORKERS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    /**
+     * One asset to warm and how long it took
+     */
+    private static final class Entry {
+        final String name;
+        final Runnable load;
+        volatile long nanos;
+        volatile boolean failed;
+
+        Entry(String name, Runnable load) {
+            this.name = name;
+            this.load = load;
+        }
+    }
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final AtomicInteger completed = new AtomicInteger();
+    private long startNanos = 0;
+    private volatile long endNanos = 0;
+
+    /**
+     * Queues a sprite at its native size
+     */
+    public void addImage(String name) {
+        entries.add(new Entry(name, () -> Assets.getImage(name)));
+    }
+
+    /**
+     * Queues a sprite resized to the given size
+     */
+    public void addImage(String name, int width, int height) {
+        addImage(name, width, height, false);
+    }
+
+    /**
+     * Queues a sprite resized to the given size, see Assets.getImage(String, int, int, boolean)
+     */
+    public void addImage(String name, int width, int height, boolean smooth) {
+        entries.add(new Entry(name + (smooth ? "~" : "@") + width + "x" + height,
+                () -> Assets.getImage(name, width, height, smooth)));
+    }
+
+    /**
+     * Queues a pool of prerolled voices for a sound effect
+     */
+    public void addSound(SoundEffects soundEffects, String soundPath, int voiceCount) {
+        entries.add(new Entry(soundPath, () -> soundEffects.preload(soundPath, voiceCount)));
+    }
+
+    /**
+     * Queues any other one-time preparation, e.g. building the hit masks
+     */
+    public void addTask(String name, Runnable task) {
+        entries.add(new Entry(name, task));
+    }
+
+    /**
+     * Submits every queued asset to the worker pool; the workers exit when the queue is drained
+     */
+    public void start() {
+        startNanos = System.nanoTime();
+        if (entries.isEmpty()) {
+            endNanos = startNanos;
+            return;
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(WORKERS, runnable -> {
+            Thread thread = new Thread(runnable, "asset-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (Entry entry : entries) {
+            pool.execute(() -> load(entry));
+        }
+        pool.shutdown();
+    }
+
+    private void load(Entry entry) {
+        long start = System.nanoTime();
+        try {
+            entry.load.run();
+        } catch (RuntimeException e) {
+            entry.failed = true;
+            System.err.println("Could not warm " + entry.name + ": " + e.getMessage());
+        } finally {
+            entry.nanos = System.nanoTime() - start;
+            if (completed.incrementAndGet() == entries.size()) {
+                endNanos = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Per-asset load times, slowest first, plus wall time against summed time
+     */
+    public String getReport() {
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort((a, b) -> Long.compare(b.nanos, a.nanos));
+
+        long sum = 0;
+        StringBuilder report = new StringBuilder();
+        for (Entry entry : sorted) {
+            sum += entry.nanos;
+            report.append(String.format("%n  %-42s %8.2f ms%s", entry.name, entry.nanos / 1_000_000.0,
+                    entry.failed ? " (failed)" : ""));
+        }
+        return String.format("%d assets on %d workers in %.1f ms (%.1f ms of work)",
+                entries.size(), WORKERS, getElapsedMillis(), sum / 1_000_000.0) + report;
+    }
+
+    // Getters
+    public int getTotal() { return entries.size(); }
+    public int getCompleted() { return completed.get(); }
+    public boolean isDone() { return endNanos != 0; }
+
+    public double getElapsedMillis() {
+        long end = endNanos;
+        return ((end != 0 ? end : System.nanoTime()) - startNanos) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,158 @@
+// Assets.java
+package duckhunt;
+
+import javafx.scene.image.Image;
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single place for resolving sprites by name (e.g. "background/1", "duck_red/7").
+ * Sprites come from the packed atlas when it is present and fall back to the
+ * loose PNG files under assets/ otherwise. Lookups are thread-safe so the
+ * startup AssetLoader can decode sprites on several workers at once.
+ * getPixels() resolves the same way but decodes with ImageIO, for code that
+ * must also run without JavaFX, such as the hit masks of the headless simulation.
+ */
+public class Assets {
+    private static volatile TextureAtlas atlas;
+    private static volatile boolean atlasChecked = false;
+    private static final Map<String, Image> images = new ConcurrentHashMap<>();
+    // Atlas index and decoded sheet for getPixels(), read on first use
+    private static TextureAtlas.Pack pixelPack;
+    private static BufferedImage pixelSheet;
+    private static boolean pixelPackChecked = false;
+
+    private Assets() {
+    }
+
+    /**
+     * Returns a sprite at its native size
+     */
+    public static Image getImage(String name) {
+        Image image = images.get(name);
+        if (image == null) {
+            image = load(name, 0, 0, false);
+            if (image != null) {
+                Image raced = images.putIfAbsent(name, image);
+                image = raced != null ? raced : image;
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Returns a sprite resized to the given size with nearest-neighbor sampling
+     */
+    public static Image getImage(String name, int width, int height) {
+        return getImage(name, width, height, false);
+    }
+
+    /**
+     * Returns a sprite resized to the given size
+     * @param smooth true to fit it into the box with its aspect ratio kept and smooth
+     *               sampling, e.g. for the cursor; false for exact nearest-neighbor pixel art
+     */
+    public static Image getImage(String name, int width, int height, boolean smooth) {
+        String key = name + (smooth ? "~" : "@") + width + "x" + height;
+        Image image = images.get(key);
+        if (image == null) {
+            image = load(name, width, height, smooth);
+            if (image != null) {
+                Image raced = images.putIfAbsent(key, image);
+                image = raced != null ? raced : image;
+            }
+        }
+        return image;
+    }
+
+    private static Image load(String name, int width, int height, boolean smooth) {
+        TextureAtlas pack = getAtlas();
+        if (pack != null && pack.contains(name)) {
+            if (width <= 0) {
+                return pack.slice(name);
+            }
+            return smooth ? pack.sliceSmooth(name, width, height) : pack.slice(name, width, height);
+        }
+
+        String path = "assets/" + name + ".png";
+        try {
+            Image image = width > 0
+                    ? new Image(new File(path).toURI().toString(), width, height, smooth, smooth)
+                    : new Image(new File(path).toURI().toString());
+            if (image.isError()) {
+                System.err.println("Could not load image: " + path + " - " + image.getException());
+                return null;
+            }
+            return image;
+        } catch (Exception e) {
+            System.err.println("Could not load image: " + path + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the ARGB pixels of a sprite at its native size, from the atlas when
+     * it holds the sprite and the loose PNG otherwise; null if neither has it.
+     * Decodes with ImageIO and does not cache.
+     */
+    public static synchronized BufferedImage getPixels(String name) {
+        if (!pixelPackChecked) {
+            pixelPackChecked = true;
+            if (new File(GameConstants.ATLAS_PATH).isFile()) {
+                try {
+                    TextureAtlas.Pack pack = TextureAtlas.Pack.map(GameConstants.ATLAS_PATH);
+                    try (InputStream sheet = pack.openSheet()) {
+                        pixelSheet = ImageIO.read(sheet);
+                    }
+                    pixelPack = pixelSheet != null ? pack : null;
+                } catch (IOException e) {
+                    System.err.println("Could not read atlas pixels, using loose files: " + e.getMessage());
+                }
+            }
+        }
+        if (pixelPack != null) {
+            for (TextureAtlas.Region region : pixelPack.getRegions()) {
+                if (region.name.equals(name)) {
+                    return pixelSheet.getSubimage(region.x, region.y, region.width, region.height);
+                }
+            }
+        }
+
+        File file = new File("assets/" + name + ".png");
+        try {
+            return file.isFile() ? ImageIO.read(file) : null;
+        } catch (IOException e) {
+            System.err.println("Could not read pixels: " + file + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Lazily maps the atlas pack; returns null when no pack is available
+     */
+    public static TextureAtlas getAtlas() {
+        if (!atlasChecked) {
+            mapAtlas();
+        }
+        return atlas;
+    }
+
+    private static synchronized void mapAtlas() {
+        if (!atlasChecked) {
+            if (new File(GameConstants.ATLAS_PATH).isFile()) {
+                try {
+                    atlas = TextureAtlas.load(GameConstants.ATLAS_PATH);
+                    System.out.println("Loaded atlas with " + atlas.size() + " sprites");
+                } catch (Exception e) {
+                    System.err.println("Could not load atlas, using loose files: " + e.getMessage());
+                }
+            }
+            atlasChecked = true;
+        }
+    }
+}
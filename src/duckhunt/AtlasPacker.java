@@ -0,0 +1,113 @@
+// AtlasPacker.java
+package duckhunt;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Offline tool that bakes every PNG under the assets folder into a single
+ * atlas pack readable by TextureAtlas.
+ *
+ * Usage: java AtlasPacker [assetsDir] [outputPack]
+ */
+public class AtlasPacker {
+    private static final int SHEET_WIDTH = 1024;
+    private static final int PADDING = 1;
+
+    private static class Sprite {
+        String name;
+        int frame;
+        BufferedImage image;
+        int x, y;
+    }
+
+    public static void main(String[] args) throws IOException {
+        File assetsDir = new File(args.length > 0 ? args[0] : "assets");
+        File output = new File(args.length > 1 ? args[1] : GameConstants.ATLAS_PATH);
+
+        List<Sprite> sprites = new ArrayList<>();
+        collect(assetsDir, "", sprites);
+        if (sprites.isEmpty()) {
+            System.err.println("No PNG files found under " + assetsDir);
+            return;
+        }
+
+        // Shelf packing: tallest sprites first, rows left to right
+        sprites.sort((a, b) -> b.image.getHeight() - a.image.getHeight());
+        int cursorX = 0, cursorY = 0, shelfHeight = 0;
+        for (Sprite sprite : sprites) {
+            int width = sprite.image.getWidth();
+            if (cursorX + width > SHEET_WIDTH) {
+                cursorX = 0;
+                cursorY += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            sprite.x = cursorX;
+            sprite.y = cursorY;
+            cursorX += width + PADDING;
+            shelfHeight = Math.max(shelfHeight, sprite.image.getHeight());
+        }
+
+        BufferedImage sheet = new BufferedImage(SHEET_WIDTH, cursorY + shelfHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = sheet.createGraphics();
+        for (Sprite sprite : sprites) {
+            graphics.drawImage(sprite.image, sprite.x, sprite.y, null);
+        }
+        graphics.dispose();
+
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(sheet, "png", png);
+
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(output))) {
+            out.writeInt(TextureAtlas.MAGIC);
+            out.writeShort(TextureAtlas.VERSION);
+            out.writeInt(sprites.size());
+            for (Sprite sprite : sprites) {
+                byte[] name = sprite.name.getBytes(StandardCharsets.UTF_8);
+                out.writeShort(name.length);
+                out.write(name);
+                out.writeShort(sprite.frame);
+                out.writeShort(sprite.x);
+                out.writeShort(sprite.y);
+                out.writeShort(sprite.image.getWidth());
+                out.writeShort(sprite.image.getHeight());
+            }
+            out.writeInt(png.size());
+            png.writeTo(out);
+        }
+
+        System.out.println("Packed " + sprites.size() + " sprites into " + output
+                + " (" + SHEET_WIDTH + "x" + sheet.getHeight() + ", " + output.length() + " bytes)");
+    }
+
+    /**
+     * Recursively gathers PNG files; names are paths relative to the assets folder without extension
+     */
+    private static void collect(File dir, String prefix, List<Sprite> sprites) throws IOException {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                collect(file, prefix + file.getName() + "/", sprites);
+            } else if (file.getName().endsWith(".png")) {
+                String baseName = file.getName().substring(0, file.getName().length() - 4);
+                Sprite sprite = new Sprite();
+                sprite.name = prefix + baseName;
+                sprite.frame = baseName.matches("\\d+") ? Integer.parseInt(baseName) : 0;
+                sprite.image = ImageIO.read(file);
+                sprites.add(sprite);
+            }
+        }
+    }
+}
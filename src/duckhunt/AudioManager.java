@@ -1,4 +1,6 @@
 // AudioManager.java
+package duckhunt;
+
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import java.io.File;
@@ -10,20 +12,38 @@ public class AudioManager {
     private MediaPlayer currentMusic;
     private MediaPlayer titleMusic;
 
+    private final SoundEffects soundEffects = new SoundEffects(GameConstants.VOLUME);
+
+    public AudioManager() {
+        this(true);
+    }
+
+    /**
+     * @param preloadEffects false when the effects are prerolled elsewhere, e.g. by the AssetLoader
+     */
+    public AudioManager(boolean preloadEffects) {
+        // Preroll effect voices so the first shot does not pay decoder setup
+        if (preloadEffects) {
+            soundEffects.preloadGameEffects();
+        }
+    }
+
     /**
      * Plays a sound effect once
      */
     public void playSound(String soundPath) {
-        try {
-            Media sound = new Media(new File(soundPath).toURI().toString());
-            MediaPlayer player = new MediaPlayer(sound);
-            player.setVolume(GameConstants.VOLUME);
-            player.play();
-        } catch (Exception e) {
-            System.err.println("Could not play sound: " + soundPath + " - " + e.getMessage());
-        }
+        soundEffects.play(soundPath);
+    }
+
+    /**
+     * Plays a sound effect once, measuring its start latency from requestedAt into latencyStats
+     */
+    public void playSound(String soundPath, long requestedAt, LatencyStats latencyStats) {
+        soundEffects.play(soundPath, requestedAt, latencyStats);
     }
 
+    public SoundEffects getSoundEffects() { return soundEffects; }
+
     /**
      * Plays background music with optional looping
      */
@@ -46,6 +66,14 @@ public class AudioManager {
         }
     }
 
+    /**
+     * Releases pooled effect players and the current music
+     */
+    public void dispose() {
+        stopMusic();
+        soundEffects.dispose();
+    }
+
     /**
      * Stops current music
      */
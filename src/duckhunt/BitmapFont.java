@@ -0,0 +1,175 @@
+// BitmapFont.java
+package duckhunt;
+
+import java.util.HashMap;
+import java.util.Map;
+import javafx.geometry.Rectangle2D;
+import javafx.geometry.VPos;
+import javafx.scene.Group;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+
+/**
+ * Printable ASCII in Arial bold at one size, rasterized once into a glyph
+ * sheet of coverage values. BitmapText copies glyphs out of it in any color,
+ * so changing HUD text needs no font measurement and no layout pass.
+ *
+ * Every glyph gets its own cell, so the sheet comes from a single snapshot
+ * per size and kerning never moves a glyph. The cells are padded on both
+ * sides, and each glyph records the columns its ink spans, because some ink
+ * reaches past the advance (the hook of 'f', the tail of 'j'). Arial's digits
+ * share one advance, which keeps a changing number from shifting the text
+ * before it.
+ */
+public class BitmapFont {
+    public static final char FIRST_CHAR = ' ';
+    public static final char LAST_CHAR = '~';
+    private static final int GLYPH_COUNT = LAST_CHAR - FIRST_CHAR + 1;
+
+    private static final Map<Double, BitmapFont> fonts = new HashMap<>();
+    private static long buildNanos = 0;
+
+    private final double size;
+    private final int padding;
+    private final int cellWidth;
+    private final int lineHeight;
+    private final int sheetWidth;
+    // Coverage (alpha) of every sheet pixel, cell after cell
+    private final byte[] sheet;
+    private final int[] advances = new int[GLYPH_COUNT];
+    // Columns holding ink, relative to the pen position; left may be negative, right may pass the advance
+    private final int[] inkLefts = new int[GLYPH_COUNT];
+    private final int[] inkRights = new int[GLYPH_COUNT];
+
+    private BitmapFont(double size) {
+        this.size = size;
+        Font font = Font.font("Arial", FontWeight.BOLD, size);
+
+        Group glyphs = new Group();
+        Text[] texts = new Text[GLYPH_COUNT];
+        int maxAdvance = 1;
+        double height = 1;
+        for (int g = 0; g < GLYPH_COUNT; g++) {
+            Text text = new Text(String.valueOf((char) (FIRST_CHAR + g)));
+            text.setFont(font);
+            text.setFill(Color.WHITE);
+            text.setTextOrigin(VPos.TOP);
+            texts[g] = text;
+            advances[g] = (int) Math.ceil(text.getLayoutBounds().getWidth());
+            maxAdvance = Math.max(maxAdvance, advances[g]);
+            height = Math.max(height, text.getLayoutBounds().getHeight());
+        }
+        padding = (int) Math.ceil(size / 4);
+        cellWidth = maxAdvance + 2 * padding;
+        lineHeight = (int) Math.ceil(height);
+        sheetWidth = cellWidth * GLYPH_COUNT;
+        for (int g = 0; g < GLYPH_COUNT; g++) {
+            texts[g].setX(g * cellWidth + padding);
+            glyphs.getChildren().add(texts[g]);
+        }
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        parameters.setViewport(new Rectangle2D(0, 0, sheetWidth, lineHeight));
+        WritableImage image = glyphs.snapshot(parameters, new WritableImage(sheetWidth, lineHeight));
+        int[] argb = new int[sheetWidth * lineHeight];
+        image.getPixelReader().getPixels(0, 0, sheetWidth, lineHeight, PixelFormat.getIntArgbInstance(),
+                argb, 0, sheetWidth);
+        sheet = new byte[argb.length];
+        for (int p = 0; p < argb.length; p++) {
+            sheet[p] = (byte) (argb[p] >>> 24);
+        }
+
+        for (int g = 0; g < GLYPH_COUNT; g++) {
+            int left = cellWidth;
+            int right = 0;
+            for (int column = 0; column < cellWidth; column++) {
+                for (int row = 0; row < lineHeight; row++) {
+                    if (sheet[row * sheetWidth + g * cellWidth + column] != 0) {
+                        left = Math.min(left, column);
+                        right = column + 1;
+                        break;
+                    }
+                }
+            }
+            inkLefts[g] = left < right ? left - padding : 0;
+            inkRights[g] = left < right ? right - padding : 0;
+        }
+    }
+
+    /**
+     * Returns the font for the given point size, rasterizing it on first use; FX thread only
+     */
+    public static BitmapFont get(double size) {
+        BitmapFont font = fonts.get(size);
+        if (font == null) {
+            long start = System.nanoTime();
+            font = new BitmapFont(size);
+            buildNanos += System.nanoTime() - start;
+            fonts.put(size, font);
+        }
+        return font;
+    }
+
+    private static int glyph(char c) {
+        return c >= FIRST_CHAR && c <= LAST_CHAR ? c - FIRST_CHAR : '?' - FIRST_CHAR;
+    }
+
+    /**
+     * Horizontal advance of a character in pixels; characters outside the sheet show as '?'
+     */
+    public int advance(char c) {
+        return advances[glyph(c)];
+    }
+
+    /**
+     * Width of the given text on one line
+     */
+    public int measure(CharSequence text) {
+        int width = 0;
+        for (int i = 0; i < text.length(); i++) {
+            width += advance(text.charAt(i));
+        }
+        return width;
+    }
+
+    /**
+     * First column with ink, relative to the pen position; negative when the glyph reaches back
+     */
+    public int inkLeft(char c) {
+        return inkLefts[glyph(c)];
+    }
+
+    /**
+     * Column after the last one with ink, relative to the pen position; can lie past advance(c)
+     */
+    public int inkRight(char c) {
+        return inkRights[glyph(c)];
+    }
+
+    /**
+     * Coverage of a glyph pixel, 0-255
+     * @param column column relative to the pen position, from inkLeft(c) to below inkRight(c)
+     */
+    public int coverage(char c, int column, int row) {
+        return sheet[row * sheetWidth + glyph(c) * cellWidth + padding + column] & 0xFF;
+    }
+
+    public static String getStatistics() {
+        long bytes = 0;
+        for (BitmapFont font : fonts.values()) {
+            bytes += font.sheet.length;
+        }
+        return String.format("%d sizes, %d KB of glyphs, built in %.1f ms",
+                fonts.size(), bytes / 1024, buildNanos / 1_000_000.0);
+    }
+
+    // Getters
+    public double getSize() { return size; }
+    public int getLineHeight() { return lineHeight; }
+}
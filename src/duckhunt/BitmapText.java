@@ -0,0 +1,229 @@
+// BitmapText.java
+package duckhunt;
+
+import java.util.Arrays;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * A fixed-size block of text drawn from a BitmapFont into its own image.
+ * setText() compares the new text with what is on screen line by line and
+ * redraws only the span from the first character that changed, so
+ * "Ammo Left: 11" becoming "Ammo Left: 10" rewrites one glyph. The span
+ * covers the full ink of the old and new glyphs, and neighbours whose ink
+ * reaches into it are drawn again inside it. The node never changes size,
+ * so an update costs no layout pass, and it allocates nothing: the text is
+ * copied into preallocated line buffers and the pixels go through one
+ * int[] that backs the image.
+ */
+public class BitmapText {
+    // Characters kept per line; anything after that is not drawn
+    public static final int MAX_COLUMNS = 64;
+
+    private final int width, height;
+    private final int[] pixels;
+    private final WritableImage image;
+    private final ImageView view;
+    private BitmapFont font;
+    private int rgb;
+
+    // Text wanted per line, and the text the pixels currently show
+    private final char[][] lines;
+    private final int[] lineLengths;
+    private final char[][] shown;
+    private final int[] shownLengths;
+    private int lineCount = 0;
+    private int visibleLines = Integer.MAX_VALUE;
+
+    private long updates = 0;
+    private long glyphsDrawn = 0;
+
+    /**
+     * @param width  width in pixels; text past it is clipped
+     * @param height height in pixels; lines that do not fit entirely are not drawn
+     */
+    public BitmapText(BitmapFont font, Color color, int width, int height) {
+        this.width = Math.max(1, width);
+        this.height = Math.max(1, height);
+        this.pixels = new int[this.width * this.height];
+        this.image = new WritableImage(this.width, this.height);
+        this.view = new ImageView(image);
+        view.setMouseTransparent(true);
+
+        int maxLines = this.height / Math.max(1, font.getLineHeight()) + 1;
+        lines = new char[maxLines][MAX_COLUMNS];
+        lineLengths = new int[maxLines];
+        shown = new char[maxLines][MAX_COLUMNS];
+        shownLengths = new int[maxLines];
+        this.font = font;
+        this.rgb = toRgb(color);
+    }
+
+    private static int toRgb(Color color) {
+        return (int) Math.round(color.getRed() * 255) << 16
+                | (int) Math.round(color.getGreen() * 255) << 8
+                | (int) Math.round(color.getBlue() * 255);
+    }
+
+    /**
+     * Shows the given text; '\n' starts a new line. Only the characters that
+     * differ from the text on screen are redrawn.
+     */
+    public void setText(CharSequence text) {
+        boolean changed = false;
+        int line = 0;
+        int column = 0;
+        for (int i = 0; i < text.length() && line < lines.length; i++) {
+            char c = text.charAt(i);
+            if (c == '\n') {
+                changed |= lineLengths[line] != column;
+                lineLengths[line++] = column;
+                column = 0;
+            } else if (column < MAX_COLUMNS) {
+                changed |= lines[line][column] != c;
+                lines[line][column++] = c;
+            }
+        }
+        if (line < lines.length) {
+            changed |= lineLengths[line] != column;
+            lineLengths[line++] = column;
+        }
+        for (int l = line; l < lineCount; l++) {
+            changed |= lineLengths[l] != 0;
+            lineLengths[l] = 0;
+        }
+        if (!changed) {
+            return;
+        }
+        lineCount = Math.max(lineCount, line);
+        updates++;
+        update();
+    }
+
+    /**
+     * Shows only the first count lines and blanks the others, without changing
+     * the text; blinking a prompt this way redraws just the blinking lines
+     */
+    public void setVisibleLines(int count) {
+        if (count != visibleLines) {
+            visibleLines = count;
+            update();
+        }
+    }
+
+    /**
+     * Switches font and color and clears the text; set it again with setText()
+     */
+    public void setStyle(BitmapFont font, Color color) {
+        this.font = font;
+        this.rgb = toRgb(color);
+        Arrays.fill(pixels, 0);
+        Arrays.fill(lineLengths, 0);
+        Arrays.fill(shownLengths, 0);
+        lineCount = 0;
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+    }
+
+    private void update() {
+        for (int l = 0; l < lineCount; l++) {
+            updateLine(l, l < visibleLines ? lineLengths[l] : 0);
+        }
+    }
+
+    /**
+     * Redraws one line from its first changed character: clears the span the
+     * old and new glyphs from there cover with their ink, draws every glyph
+     * that reaches into the span clipped to it, and uploads just that rectangle
+     */
+    private void updateLine(int line, int length) {
+        int lineHeight = font.getLineHeight();
+        int top = line * lineHeight;
+        if (top + lineHeight > height) {
+            return;
+        }
+        char[] wanted = lines[line];
+        char[] current = shown[line];
+        int oldLength = shownLengths[line];
+
+        int first = 0;
+        int x = 0;
+        while (first < length && first < oldLength && wanted[first] == current[first]) {
+            x += font.advance(wanted[first]);
+            first++;
+        }
+        if (first == length && first == oldLength) {
+            return;
+        }
+
+        // Ink span of the glyphs that change, before and after
+        int left = x;
+        int right = x;
+        int pen = x;
+        for (int i = first; i < oldLength; i++) {
+            left = Math.min(left, pen + font.inkLeft(current[i]));
+            right = Math.max(right, pen + font.inkRight(current[i]));
+            pen += font.advance(current[i]);
+        }
+        pen = x;
+        for (int i = first; i < length; i++) {
+            left = Math.min(left, pen + font.inkLeft(wanted[i]));
+            right = Math.max(right, pen + font.inkRight(wanted[i]));
+            pen += font.advance(wanted[i]);
+        }
+        left = Math.max(0, left);
+        right = Math.min(width, right);
+        if (right <= left) {
+            System.arraycopy(wanted, first, current, first, length - first);
+            shownLengths[line] = length;
+            return;
+        }
+
+        for (int row = 0; row < lineHeight; row++) {
+            int start = (top + row) * width;
+            Arrays.fill(pixels, start + left, start + right, 0);
+        }
+        pen = 0;
+        for (int i = 0; i < length && pen + font.inkLeft(wanted[i]) < right; i++) {
+            char c = wanted[i];
+            if (pen + font.inkRight(c) > left) {
+                drawGlyph(c, pen, top, left, right);
+            }
+            pen += font.advance(c);
+        }
+        System.arraycopy(wanted, first, current, first, length - first);
+        shownLengths[line] = length;
+
+        image.getPixelWriter().setPixels(left, top, right - left, lineHeight,
+                PixelFormat.getIntArgbInstance(), pixels, top * width + left, width);
+    }
+
+    /**
+     * Draws a glyph with its pen at x, only between the clip columns; where
+     * neighbouring glyphs overlap the more opaque pixel wins
+     */
+    private void drawGlyph(char c, int x, int top, int clipLeft, int clipRight) {
+        int from = Math.max(font.inkLeft(c), clipLeft - x);
+        int to = Math.min(font.inkRight(c), clipRight - x);
+        for (int row = 0; row < font.getLineHeight(); row++) {
+            int target = (top + row) * width + x;
+            for (int column = from; column < to; column++) {
+                int coverage = font.coverage(c, column, row);
+                if (coverage > pixels[target + column] >>> 24) {
+                    pixels[target + column] = coverage << 24 | rgb;
+                }
+            }
+        }
+        glyphsDrawn++;
+    }
+
+    public String getStatistics() {
+        return String.format("updates=%d, glyphs drawn=%d", updates, glyphsDrawn);
+    }
+
+    // Getters
+    public ImageView getView() { return view; }
+    public int getVisibleLines() { return visibleLines; }
+    public long getGlyphsDrawn() { return glyphsDrawn; }
+}
@@ -0,0 +1,80 @@
+// CanvasRenderer.java
+package duckhunt;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import java.util.List;
+
+/**
+ * Alternative rendering backend that draws the whole playfield into one Canvas.
+ * Background, every duck and the foreground are painted in a single pass per
+ * frame, so the scene graph holds one node no matter how many ducks fly.
+ */
+public class CanvasRenderer {
+
+    /**
+     * Anything that can paint itself into the playfield canvas
+     */
+    public interface Drawable {
+        void draw(GraphicsContext gc, double alpha);
+    }
+
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+    private Image background;
+    private Image foreground;
+
+    public CanvasRenderer(Image background, Image foreground) {
+        this.canvas = new Canvas(GameConstants.WINDOW_WIDTH, GameConstants.WINDOW_HEIGHT);
+        this.gc = canvas.getGraphicsContext2D();
+        this.gc.setImageSmoothing(false);
+        this.background = background;
+        this.foreground = foreground;
+    }
+
+    /**
+     * Paints one frame: background, then all sprites, then foreground
+     */
+    public void render(List<? extends Drawable> sprites, double alpha) {
+        if (background != null) {
+            gc.drawImage(background, 0, 0, GameConstants.WINDOW_WIDTH, GameConstants.WINDOW_HEIGHT);
+        } else {
+            gc.clearRect(0, 0, GameConstants.WINDOW_WIDTH, GameConstants.WINDOW_HEIGHT);
+        }
+
+        for (int i = 0; i < sprites.size(); i++) {
+            sprites.get(i).draw(gc, alpha);
+        }
+
+        if (foreground != null) {
+            gc.drawImage(foreground, 0, 0, GameConstants.WINDOW_WIDTH, GameConstants.WINDOW_HEIGHT);
+        }
+    }
+
+    /**
+     * Draws an image, mirrored around its center when flipX/flipY are negative
+     */
+    public static void drawSprite(GraphicsContext gc, Image image, double x, double y,
+                                  double width, double height, double flipX, double flipY) {
+        if (image == null) {
+            return;
+        }
+        if (flipX > 0 && flipY > 0) {
+            gc.drawImage(image, x, y, width, height);
+            return;
+        }
+        gc.save();
+        gc.translate(x + width / 2, y + height / 2);
+        gc.scale(flipX, flipY);
+        gc.drawImage(image, -width / 2, -height / 2, width, height);
+        gc.restore();
+    }
+
+    public void setLayers(Image background, Image foreground) {
+        this.background = background;
+        this.foreground = foreground;
+    }
+
+    public Canvas getCanvas() { return canvas; }
+}
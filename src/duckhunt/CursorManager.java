@@ -1,8 +1,9 @@
 // CursorManager.java
+package duckhunt;
+
 import javafx.scene.ImageCursor;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
-import java.io.File;
 
 /**
  * Manages cursor operations
@@ -14,7 +15,7 @@ public class CursorManager {
      */
     public void setupCustomCursor(Scene scene, int selectedCrosshair) {
         try {
-            Image cursorImage = new Image(new File("assets/crosshair/" + selectedCrosshair + ".png").toURI().toString());
+            Image cursorImage = Assets.getImage("crosshair/" + selectedCrosshair);
             scene.setCursor(new ImageCursor(cursorImage));
         } catch (Exception e) {
             System.err.println("Could not load cursor: " + e.getMessage());
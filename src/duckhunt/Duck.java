@@ -0,0 +1,153 @@
+// Duck.java
+package duckhunt;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * Represents a duck entity in the game.
+ * The simulation state lives in a DuckWorld; a Duck is a handle over one index
+ * in that world plus the view used to show it. Wing flaps and the falling
+ * sequence are advanced by the world's tick, so a duck owns no timers of
+ * its own.
+ */
+public class Duck implements CanvasRenderer.Drawable {
+    public static final double SIZE = DuckWorld.DUCK_SIZE;
+
+    private final DuckWorld world;
+    private final int index;
+    // Where the view reads sprite and position from: the world itself, or the simulation thread's snapshots
+    private DuckRenderState state;
+    private ImageView imageView;
+    private Image image;
+    private int shownFrame = -1;
+    private double scaleX = 1, scaleY = 1;
+    private AudioManager audioManager;
+
+    /**
+     * Constructor for Duck
+     */
+    public Duck(DuckWorld world, int index, AudioManager audioManager) {
+        // The canvas and framebuffer backends draw ducks themselves, so no node is needed
+        this(world, index, audioManager, GameConstants.DUCK_VIEWS ? createImageView() : null);
+    }
+
+    /**
+     * Creates a duck around a view built in advance, e.g. by a background level preparation
+     */
+    public Duck(DuckWorld world, int index, AudioManager audioManager, ImageView imageView) {
+        this.world = world;
+        this.index = index;
+        this.state = world;
+        this.audioManager = audioManager;
+        this.imageView = imageView;
+
+        updateImage();
+        render(1);
+    }
+
+    /**
+     * Builds an empty duck-sized view; safe to call off the FX thread while the node is not in a scene
+     */
+    public static ImageView createImageView() {
+        ImageView imageView = new ImageView();
+        imageView.setFitWidth(SIZE);
+        imageView.setFitHeight(SIZE);
+        return imageView;
+    }
+
+    /**
+     * Picks the sprite and mirroring for the duck's current state;
+     * the view is only touched when something actually changed
+     */
+    private void updateImage() {
+        if (GameConstants.FRAMEBUFFER_RENDERER) {
+            // Drawn from the world by FramebufferRenderer; the scaled sprites are never needed
+            return;
+        }
+        int frame = state.getSpriteFrame(index);
+        double newScaleX = state.getScaleX(index);
+        double newScaleY = state.getScaleY(index);
+        if (frame == shownFrame && newScaleX == scaleX && newScaleY == scaleY) {
+            return;
+        }
+
+        shownFrame = frame;
+        scaleX = newScaleX;
+        scaleY = newScaleY;
+        image = SpriteCache.getDuckFrame(state.getColor(index), frame);
+
+        if (imageView != null) {
+            imageView.setImage(image);
+            imageView.setScaleX(scaleX);
+            imageView.setScaleY(scaleY);
+        }
+    }
+
+    /**
+     * Readies a pooled duck to show the duck now spawned at its index
+     */
+    public void reset() {
+        shownFrame = -1;
+        render(1);
+    }
+
+    /**
+     * Advances only this duck by one simulation step
+     */
+    public void update() {
+        world.step(index);
+    }
+
+    /**
+     * Positions the view between the previous and current step
+     */
+    public void render(double alpha) {
+        updateImage();
+        if (imageView != null) {
+            imageView.setX(state.getRenderX(index, alpha));
+            imageView.setY(state.getRenderY(index, alpha));
+        }
+    }
+
+    /**
+     * Paints the duck into the shared playfield canvas
+     */
+    @Override
+    public void draw(GraphicsContext gc, double alpha) {
+        updateImage();
+        CanvasRenderer.drawSprite(gc, image, state.getRenderX(index, alpha), state.getRenderY(index, alpha),
+                SIZE, SIZE, scaleX, scaleY);
+    }
+
+    /**
+     * Handles duck being shot; the simulation has already taken it out of play
+     * and drops it under gravity on the following steps
+     */
+    public void shoot() {
+        updateImage();
+
+        audioManager.playSound("assets/effects/DuckFalls.mp3");
+    }
+
+    /**
+     * Checks if point is inside duck bounds
+     */
+    public boolean contains(double pointX, double pointY) {
+        return world.contains(index, pointX, pointY);
+    }
+
+    /**
+     * Draws this duck from the given state from now on
+     */
+    public void setRenderState(DuckRenderState state) {
+        this.state = state;
+        shownFrame = -1;
+    }
+
+    // Getters
+    public ImageView getImageView() { return imageView; }
+    public boolean isAlive() { return world.isAlive(index); }
+    public int getIndex() { return index; }
+}
@@ -0,0 +1,951 @@
+package duckhunt;
+
+import javafx.application.Application;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.stage.Stage;
+import javafx.scene.ImageCursor;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Duck Hunt Game Implementation using JavaFX
+ * A simplified version of the classic Duck Hunt game with multiple levels,
+ * different backgrounds, crosshairs, and sound effects.
+ *
+ * Assignment: BBM 104 Project Assignment 4
+ * @author Student
+ * @version 1.0
+ * Spring 2023
+ */
+public class DuckHunt extends Application {
+
+    // Global configuration parameters as required by assignment
+    public static final double SCALE = 3.0;
+    public static final double VOLUME = 0.025;
+
+    // Game constants
+    private static final int WINDOW_WIDTH = (int)(256 * SCALE);
+    private static final int WINDOW_HEIGHT = (int)(240 * SCALE);
+    private static final int TOTAL_LEVELS = 6;
+    private static final long BLINK_NANOS = 500_000_000L;
+    private static final long INTRO_NANOS = 2_000_000_000L;
+    private static final long LOADING_POLL_NANOS = 100_000_000L;
+
+    // Game state variables
+    private Stage primaryStage;
+    private Scene scene;
+    private Pane currentPane;
+    private GameState gameState = GameState.TITLE;
+    private GameLoop gameLoop;
+    // Text blinking and the intro delay run off the game loop's clock
+    private final AnimationScheduler animationScheduler = new AnimationScheduler();
+    private final FrameStats frameStats = new FrameStats();
+    // Mouse press to hit resolution, and to the gunshot voice starting
+    private final LatencyStats hitLatency = new LatencyStats("press->hit");
+    private final LatencyStats gunshotLatency = new LatencyStats("press->gunshot");
+    private final ShotQueue pendingShots = new ShotQueue(8);
+    // Created once so draining the simulation's events allocates nothing
+    private final GameEvents.Handler eventHandler = this::onGameEvent;
+    private final QualityGovernor qualityGovernor =
+            new QualityGovernor(GameConstants.TARGET_FPS, GameConstants.ADAPTIVE_QUALITY);
+    // World tick of the frame currently on screen, fractional while interpolating
+    private double displayedTick = 0;
+    // Simulation level start this screen belongs to, and the ammo count shown for it
+    private long levelStarts = 0;
+    private int shownAmmo = 0;
+    private PerformanceOverlay performanceOverlay;
+
+    // Configuration variables - reset on ESC from background selection
+    private int selectedBackground = 1;
+    private int selectedCrosshair = 1;
+
+    // Audio and duck simulation
+    private AudioManager audioManager;
+    private LevelManager levelManager;
+    // Set with -Dduckhunt.simulationThread; the FX thread then only renders the published snapshots
+    private SimulationThread simulationThread;
+    private WorldSnapshots snapshots;
+
+    // UI elements; the playfield layers are built once and reused for every level
+    private GameScreen gameScreen;
+    private AnimationScheduler.Task blinkTask;
+    private AnimationScheduler.Task loadingTask;
+    private boolean introSoundNeeded = true; // Track if intro sound should play
+
+    // Startup warm-up; ENTER on the title screen waits until every asset is hot
+    private final AssetLoader assetLoader = new AssetLoader();
+    private boolean assetsReady = false;
+    // Why the game cannot start, e.g. missing duck sprites for the hit masks; the title screen stays up
+    private String startupError = null;
+    private long launchNanos;
+    private long firstFrameNanos = 0;
+
+    // Session recording and replay (-Dduckhunt.record / -Dduckhunt.replay)
+    private InputRecorder inputRecorder;
+    private InputLog replayLog;
+    private int replayIndex = 0;
+
+    @Override
+    public void start(Stage primaryStage) {
+        launchNanos = System.nanoTime();
+        this.primaryStage = primaryStage;
+        primaryStage.setTitle("HUBBM Duck Hunt"); // Exact title as required
+
+        // Set favicon as specified in requirements
+        try {
+            primaryStage.getIcons().add(Assets.getImage("favicon/1"));
+        } catch (Exception e) {
+            System.err.println("Could not load favicon: " + e.getMessage());
+        }
+
+        // Pooled effect voices are prerolled by the asset loader together with the images
+        audioManager = new AudioManager(false);
+        warmUpAssets();
+        levelManager = new LevelManager(audioManager, createSimulation());
+        if (GameConstants.SIMULATION_THREAD && replayLog == null && inputRecorder == null) {
+            startSimulationThread();
+        }
+        performanceOverlay = new PerformanceOverlay(frameStats, hitLatency, gunshotLatency);
+        performanceOverlay.setQualityGovernor(qualityGovernor);
+        gameScreen = new GameScreen(performanceOverlay.getNode());
+
+        // One scene for the whole session; screens only swap its root
+        scene = new Scene(gameScreen.getRoot(), WINDOW_WIDTH, WINDOW_HEIGHT);
+        setupKeyHandlers();
+        setupGameHandlers();
+        performanceOverlay.attach(scene);
+        primaryStage.setScene(scene);
+
+        primaryStage.setWidth(WINDOW_WIDTH);
+        primaryStage.setHeight(WINDOW_HEIGHT);
+        primaryStage.setResizable(false);
+
+        showTitleScreen();
+        primaryStage.show();
+    }
+
+    /**
+     * Moves the simulation onto its own thread; ducks are drawn from its snapshots from now on
+     */
+    private void startSimulationThread() {
+        snapshots = new WorldSnapshots();
+        levelManager.setRenderState(snapshots);
+        simulationThread = new SimulationThread(levelManager.getSimulation(), snapshots);
+        simulationThread.start();
+        System.out.println("Simulation runs on its own thread");
+    }
+
+    /**
+     * Changes the simulation from the FX thread, between two steps of the simulation thread if there is one
+     */
+    private void runOnSimulation(Runnable action) {
+        if (simulationThread != null) {
+            simulationThread.runLocked(action);
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Displays the title screen with proper flashing text and title music
+     * Plays Title.mp3 in loop as required
+     */
+    private void showTitleScreen() {
+        gameState = GameState.TITLE;
+        introSoundNeeded = true; // Reset intro sound flag
+        if (simulationThread != null) {
+            simulationThread.setPaused(true);
+        }
+
+        // The loop keeps running on the menus so the scheduler can blink the text
+        startGameLoop();
+
+        StackPane titlePane = new StackPane();
+
+        // Background image
+        try {
+            ImageView background = new ImageView(Assets.getImage("welcome/1"));
+            background.setFitWidth(WINDOW_WIDTH);
+            background.setFitHeight(WINDOW_HEIGHT);
+            titlePane.getChildren().add(background);
+        } catch (Exception e) {
+            System.err.println("Could not load title background: " + e.getMessage());
+        }
+
+
+
+        // Instructions as specified: "PRESS ENTER TO PLAY" and "PRESS ESC TO EXIT"
+        Label instructionsLabel = new Label("PRESS ENTER TO PLAY\nPRESS ESC TO EXIT");
+        instructionsLabel.setFont(Font.font("Arial", FontWeight.BOLD, 16 * SCALE / 3));
+        instructionsLabel.setTextFill(Color.ORANGE);
+        instructionsLabel.setAlignment(Pos.CENTER);
+        StackPane.setAlignment(instructionsLabel, Pos.CENTER);
+        instructionsLabel.setTranslateY(50 * SCALE / 3);
+
+        if (assetsReady) {
+            // Flashing animation for instructions
+            startBlinking(() -> instructionsLabel.setVisible(!instructionsLabel.isVisible()));
+        } else {
+            // Progress replaces the instructions until the warm-up finishes
+            instructionsLabel.setText(getLoadingText());
+            loadingTask = animationScheduler.every(LOADING_POLL_NANOS, () -> {
+                if (!assetLoader.isDone()) {
+                    instructionsLabel.setText(getLoadingText());
+                    return;
+                }
+                loadingTask.cancel();
+                assetsLoaded();
+                if (startupError != null) {
+                    instructionsLabel.setText("CANNOT START, SEE THE CONSOLE\nPRESS ESC TO EXIT");
+                    return;
+                }
+                instructionsLabel.setText("PRESS ENTER TO PLAY\nPRESS ESC TO EXIT");
+                startBlinking(() -> instructionsLabel.setVisible(!instructionsLabel.isVisible()));
+            });
+        }
+
+        titlePane.getChildren().addAll(instructionsLabel);
+
+        scene.setRoot(titlePane);
+
+        // Return cursor to default when returning to title screen
+        scene.setCursor(javafx.scene.Cursor.DEFAULT);
+
+        // Play title music in loop as required
+        playMusic("assets/effects/Title.mp3", true);
+    }
+
+    /**
+     * Queues every image and sound effect used after the title screen and
+     * starts decoding them on the loader's worker pool
+     */
+    private void warmUpAssets() {
+        for (int i = 1; i <= 6; i++) {
+            assetLoader.addImage("background/" + i);
+            assetLoader.addImage("foreground/" + i);
+        }
+        for (int i = 1; i <= 7; i++) {
+            assetLoader.addImage("crosshair/" + i);
+            assetLoader.addImage("crosshair/" + i, 32, 32, true);
+        }
+        // The framebuffer backend only ever needs the native-size frames
+        int duckSize = GameConstants.FRAMEBUFFER_RENDERER
+                ? FramebufferRenderer.SPRITE_SIZE : (int) SpriteCache.DUCK_SIZE;
+        for (String color : SpriteCache.COLORS) {
+            for (int frame = 1; frame <= SpriteCache.FRAME_COUNT; frame++) {
+                assetLoader.addImage("duck_" + color + "/" + frame, duckSize, duckSize);
+            }
+        }
+        SoundEffects soundEffects = audioManager.getSoundEffects();
+        for (int i = 0; i < SoundEffects.GAME_EFFECTS.length; i++) {
+            assetLoader.addSound(soundEffects, SoundEffects.GAME_EFFECTS[i], SoundEffects.GAME_EFFECT_VOICES[i]);
+        }
+        if (!GameConstants.BOX_HIT_TEST) {
+            assetLoader.addTask("hit masks", HitMasks::getDuckMasks);
+        }
+        assetLoader.start();
+    }
+
+    private String getLoadingText() {
+        return "LOADING " + assetLoader.getCompleted() * 100 / Math.max(1, assetLoader.getTotal()) + "%";
+    }
+
+    /**
+     * Runs on the FX thread once the warm-up finished; fills the sprite cache from the
+     * already decoded images and prints the startup report. If the hit masks could
+     * not be built the game stops here, instead of failing on the first shot of a level.
+     */
+    private void assetsLoaded() {
+        if (!GameConstants.BOX_HIT_TEST) {
+            try {
+                HitMasks.getDuckMasks();
+            } catch (IllegalStateException e) {
+                startupError = e.getMessage();
+                System.err.println("Cannot start: " + startupError);
+                return;
+            }
+        }
+        assetsReady = true;
+        if (GameConstants.FRAMEBUFFER_RENDERER) {
+            FramebufferRenderer.preload();
+        } else {
+            SpriteCache.preload();
+        }
+        System.out.println("Asset warm-up: " + assetLoader.getReport());
+        System.out.printf("Time to first frame: %.1f ms, time to interactive: %.1f ms (%d ms since JVM start)%n",
+                (firstFrameNanos - launchNanos) / 1_000_000.0, (System.nanoTime() - launchNanos) / 1_000_000.0,
+                ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    /**
+     * Seeds the simulation from the replayed session, or opens a recording of a new one
+     */
+    private GameSimulation createSimulation() {
+        if (GameConstants.REPLAY_PATH != null) {
+            try {
+                replayLog = InputLog.load(GameConstants.REPLAY_PATH);
+                System.out.println("Replaying " + replayLog.getEvents().size() + " inputs from "
+                        + GameConstants.REPLAY_PATH);
+                return new GameSimulation(replayLog.getSeed());
+            } catch (IOException e) {
+                System.err.println("Could not load replay: " + e.getMessage());
+            }
+        }
+
+        GameSimulation simulation = new GameSimulation();
+        if (GameConstants.RECORD_PATH != null) {
+            try {
+                inputRecorder = new InputRecorder(GameConstants.RECORD_PATH, simulation.getSeed());
+                System.out.println("Recording inputs to " + GameConstants.RECORD_PATH);
+            } catch (IOException e) {
+                System.err.println("Could not start recording: " + e.getMessage());
+            }
+        }
+        return simulation;
+    }
+
+    /**
+     * Feeds recorded inputs due at the current simulation tick into the normal handlers.
+     * An input waits until the game reaches the state it was recorded in, which
+     * covers delays that do not advance the simulation, such as the intro.
+     */
+    private void applyReplayInputs() {
+        if (replayLog == null || !assetsReady) {
+            return;
+        }
+        List<InputLog.Event> events = replayLog.getEvents();
+        long tick = levelManager.getSimulation().getTickCount();
+        while (replayIndex < events.size()) {
+            InputLog.Event event = events.get(replayIndex);
+            if (event.getTick() > tick || (event.getTick() == tick && event.getState() != gameState)) {
+                return;
+            }
+            replayIndex++;
+            if (event.getState() != gameState) {
+                System.err.println("Replay desync at tick " + tick + ": recorded " + event.getState()
+                        + ", game is " + gameState);
+                continue;
+            }
+
+            if (event.getType() == InputLog.SHOT) {
+                // Resolved before the next step, so this rewinds exactly as far as the recording
+                fireShot(event.getX(), event.getY(), System.nanoTime(),
+                        levelManager.getWorld().getHistoryTick() - event.getRewind());
+            } else {
+                handleKey(KeyCode.valueOf(event.getKey()));
+            }
+            if (replayIndex == events.size()) {
+                System.out.println("Replay finished at tick " + tick);
+            }
+        }
+    }
+
+    /**
+     * Displays the background selection screen with navigation options
+     * Keeps title music playing and resets options if coming from title screen
+     */
+    private void showBackgroundSelection() {
+        gameState = GameState.BACKGROUND_SELECTION;
+
+        stopBlinking();
+
+        // Reset selections when coming from title screen as required
+        selectedBackground = 1;
+        selectedCrosshair = 1;
+
+        StackPane selectionPane = new StackPane();
+        updateBackgroundPreview(selectionPane);
+
+        scene.setRoot(selectionPane);
+
+        currentPane = selectionPane;
+    }
+
+    /**
+     * Updates the background preview with current selections
+     * Shows selected background and crosshair with instructions
+     */
+    private void updateBackgroundPreview(StackPane pane) {
+        pane.getChildren().clear();
+
+        // Show selected background
+        try {
+            ImageView background = new ImageView(Assets.getImage("background/" + selectedBackground));
+            background.setFitWidth(WINDOW_WIDTH);
+            background.setFitHeight(WINDOW_HEIGHT);
+            pane.getChildren().add(background);
+        } catch (Exception e) {
+            System.err.println("Could not load background: " + e.getMessage());
+        }
+
+        // Show crosshair preview
+        try {
+            ImageView crosshair = new ImageView(Assets.getImage("crosshair/" + selectedCrosshair));
+            crosshair.setFitWidth(30 * SCALE);
+            crosshair.setFitHeight(30 * SCALE);
+            StackPane.setAlignment(crosshair, Pos.CENTER);
+            pane.getChildren().add(crosshair);
+        } catch (Exception e) {
+            System.err.println("Could not load crosshair: " + e.getMessage());
+        }
+
+        // Instructions as specified in requirements
+        Label instructionsLabel = new Label("USE ARROW KEYS TO NAVIGATE\nPRESS ENTER TO START\nPRESS ESC TO EXIT");
+        instructionsLabel.setFont(Font.font("Arial", FontWeight.BOLD, 16 * SCALE / 3));
+        instructionsLabel.setTextFill(Color.WHITE);
+        instructionsLabel.setAlignment(Pos.CENTER);
+        StackPane.setAlignment(instructionsLabel, Pos.BOTTOM_CENTER);
+        instructionsLabel.setTranslateY(-50 * SCALE / 3);
+        pane.getChildren().add(instructionsLabel);
+    }
+
+    /**
+     * Starts the game with intro sound if needed
+     * Intro sound only plays when starting from background selection
+     */
+    private void startGame() {
+        stopMusic();
+
+        if (introSoundNeeded) {
+            // Play intro sound and wait for it to finish
+            playSound("assets/effects/Intro.mp3");
+            animationScheduler.after(INTRO_NANOS, this::startLevel);
+        } else {
+            // Start immediately without intro sound
+            startLevel();
+        }
+    }
+
+    /**
+     * Starts the current level again, e.g. after the intro
+     */
+    private void startLevel() {
+        startLevel(levelManager.getCurrentLevel());
+    }
+
+    /**
+     * Starts a new level with proper setup
+     * Creates ducks and resets the persistent playfield layers in place;
+     * no images are reloaded and no handlers are registered again
+     * @param level level to play; set on the simulation in the same locked action that spawns its ducks
+     */
+    private void startLevel(int level) {
+        System.out.println("=== startLevel() called for level " + level + " ===");
+        if (GameConstants.LEVEL_STATISTICS) {
+            printPlayStatistics();
+        }
+        long setupStart = System.nanoTime();
+        performanceOverlay.reset();
+        stopBlinking();
+        pendingShots.clear();
+        gameState = GameState.PLAYING;
+
+        // Background and foreground only change when coming from the selection screen
+        gameScreen.setBackground(selectedBackground);
+        gameScreen.reset(level);
+
+        // Create ducks (between background and foreground as required)
+        // The simulation spawns the level's ducks and hands out 3 shots per duck
+        runOnSimulation(() -> {
+            levelManager.setCurrentLevel(level);
+            levelManager.getWorld().resetStatistics();
+            levelManager.createDucks(gameScreen.getActorLayer());
+            levelStarts = levelManager.getSimulation().getLevelStarts();
+            shownAmmo = levelManager.getAmmoLeft();
+        });
+        if (simulationThread != null) {
+            simulationThread.setPaused(false);
+        }
+        // Shows the new level's ammo right away instead of after the first step
+        gameScreen.setAmmo(shownAmmo);
+        dispatchEvents();
+
+        if (scene.getRoot() != gameScreen.getRoot()) {
+            scene.setRoot(gameScreen.getRoot());
+            setupCustomCursor();
+        }
+
+        // Start duck animation loop
+        startGameLoop();
+        System.out.println("Level " + levelManager.getCurrentLevel() + " starting with "
+                + levelManager.getDucks().size() + " ducks and " + levelManager.getAmmoLeft() + " ammo");
+        if (GameConstants.LEVEL_STATISTICS) {
+            printSetupStatistics(System.nanoTime() - setupStart);
+        }
+        System.out.println("=== startLevel() completed ===");
+    }
+
+    /**
+     * Prints how the level that just ended ran, before startLevel() resets the counters
+     */
+    private void printPlayStatistics() {
+        System.out.println("Simulation: " + levelManager.getWorld().getStatistics());
+        System.out.println("Frame times: " + frameStats.getStatistics());
+        System.out.println("Input latency: " + hitLatency.getStatistics() + ", " + gunshotLatency.getStatistics());
+        System.out.println("Quality: " + qualityGovernor.getStatistics());
+        System.out.println("Events: " + levelManager.getSimulation().getEvents().getStatistics());
+        if (simulationThread != null) {
+            System.out.println("Simulation thread: " + simulationThread.getStatistics());
+        }
+    }
+
+    /**
+     * Prints what setting up the new level cost and the state of the shared caches
+     */
+    private void printSetupStatistics(long setupNanos) {
+        System.out.printf("Level set up in %d us (%s)%n", setupNanos / 1_000,
+                levelManager.isLastLevelPrepared() ? "prepared in background" : "built synchronously");
+        System.out.println("Sprite cache: " + SpriteCache.getStatistics());
+        System.out.println("Bitmap fonts: " + BitmapFont.getStatistics());
+        System.out.println("Duck pool: " + levelManager.getDuckPool().getStatistics());
+        if (gameScreen.getFramebufferRenderer() != null) {
+            System.out.println("Framebuffer: " + FramebufferRenderer.WIDTH + "x" + FramebufferRenderer.HEIGHT
+                    + ", " + gameScreen.getFramebufferRenderer().getPixelBytes() / 1024 + " KB of pixels");
+        }
+        System.out.println("Sound effects: " + audioManager.getSoundEffects().getStatistics());
+    }
+
+    /**
+     * Starts the main game loop for duck updates and game state checking
+     * Simulation runs in fixed steps; rendering interpolates between them
+     */
+    private void startGameLoop() {
+        if (gameLoop != null) {
+            gameLoop.stop();
+        }
+
+        gameLoop = new GameLoop(new GameLoop.Listener() {
+            @Override
+            public void step() {
+                updateGame();
+            }
+
+            @Override
+            public void render(double alpha) {
+                if (firstFrameNanos == 0) {
+                    firstFrameNanos = System.nanoTime();
+                }
+                // Ducks are drawn alpha of the way from the previous step to the latest one
+                if (snapshots != null) {
+                    // The simulation thread keeps its own clock; interpolate from when the snapshot was published
+                    alpha = snapshots.acquire(System.nanoTime());
+                    displayedTick = snapshots.getTick() - 1 + alpha;
+                } else {
+                    displayedTick = levelManager.getWorld().getHistoryTick() - 1 + alpha;
+                }
+                if (gameState == GameState.TITLE || gameState == GameState.BACKGROUND_SELECTION) {
+                    return;
+                }
+                CanvasRenderer canvasRenderer = gameScreen.getCanvasRenderer();
+                FramebufferRenderer framebufferRenderer = gameScreen.getFramebufferRenderer();
+                if (canvasRenderer != null) {
+                    canvasRenderer.render(levelManager.getDucks(), alpha);
+                } else if (framebufferRenderer != null) {
+                    framebufferRenderer.render(snapshots != null ? snapshots : levelManager.getWorld(), alpha);
+                } else {
+                    levelManager.renderDucks(alpha);
+                }
+                performanceOverlay.refresh(System.nanoTime());
+            }
+        });
+        gameLoop.setFrameStats(frameStats);
+        gameLoop.setQualityGovernor(qualityGovernor);
+        gameLoop.start();
+    }
+
+    /**
+     * Updates game state each frame
+     * Checks for level completion and game over conditions, then advances the animations
+     */
+    private void updateGame() {
+        applyReplayInputs();
+        resolveShots();
+
+        if (simulationThread == null
+                && gameState != GameState.TITLE && gameState != GameState.BACKGROUND_SELECTION) {
+            // After the level ends this only lets shot ducks finish falling
+            DuckWorld world = levelManager.getWorld();
+            long moveNanos = world.getMoveNanos();
+            long gridNanos = world.getGridNanos();
+            levelManager.updateDucks();
+            frameStats.add(FrameStats.MOVE, world.getMoveNanos() - moveNanos);
+            frameStats.add(FrameStats.GRID, world.getGridNanos() - gridNanos);
+        }
+
+        // Hits from this step reach the sounds here; ammo and level endings come from the state
+        dispatchEvents();
+        syncWithSimulation();
+        if (simulationThread != null) {
+            simulationThread.drainHitLatencies(hitLatency);
+        }
+
+        animationScheduler.advance(GameLoop.STEP_NANOS);
+    }
+
+    /**
+     * Hands every event the simulation published since the last call to its consumers, in order
+     */
+    private void dispatchEvents() {
+        levelManager.getSimulation().getEvents().drain(eventHandler);
+    }
+
+    /**
+     * Routes one simulation event. Events can be dropped when the buffer is
+     * full, so only reactions that may be lost are driven from here
+     */
+    private void onGameEvent(int type, int subject, int value) {
+        switch (type) {
+            case GameEvents.DUCK_HIT:
+                levelManager.duckHit(subject);
+                break;
+            default:
+                // Shots, landings, ammo and level changes are only counted
+                break;
+        }
+    }
+
+    /**
+     * Follows the simulation's ammo count and level ending, read from the
+     * snapshot on screen when the simulation has its own thread. The
+     * simulation decides how a level ended, and the loop keeps running
+     * afterwards so falling ducks are still drawn.
+     */
+    private void syncWithSimulation() {
+        GameState state;
+        int ammoLeft;
+        if (simulationThread != null) {
+            // A snapshot from before this level started still describes the previous one
+            if (snapshots.getLevelStarts() != levelStarts) {
+                return;
+            }
+            state = snapshots.getState();
+            ammoLeft = snapshots.getAmmoLeft();
+        } else {
+            state = levelManager.getSimulation().getState();
+            ammoLeft = levelManager.getAmmoLeft();
+        }
+
+        if (ammoLeft != shownAmmo) {
+            shownAmmo = ammoLeft;
+            gameScreen.setAmmo(ammoLeft);
+        }
+        if (gameState != GameState.PLAYING) {
+            return;
+        }
+        switch (state) {
+            case LEVEL_COMPLETED:
+                levelCompleted();
+                break;
+            case GAME_COMPLETED:
+                gameCompleted();
+                break;
+            case GAME_OVER:
+                gameOver();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Toggles a piece of text every half second, replacing any previous blink
+     */
+    private void startBlinking(Runnable toggle) {
+        stopBlinking();
+        blinkTask = animationScheduler.every(BLINK_NANOS, toggle);
+    }
+
+    /**
+     * Stops the current blinking text, if any
+     */
+    private void stopBlinking() {
+        if (blinkTask != null) {
+            blinkTask.cancel();
+            blinkTask = null;
+        }
+    }
+
+    /**
+     * Handles level completion with proper sound and progression
+     */
+    private void levelCompleted() {
+        gameState = GameState.LEVEL_COMPLETED;
+
+        playSound("assets/effects/LevelCompleted.mp3");
+
+        // Build the next level while the player reads the message
+        levelManager.prepareLevel(levelManager.getCurrentLevel() + 1);
+
+        // Show completion message as specified
+        BitmapText completionText = gameScreen.showMessage("YOU WIN!\nPress ENTER to play next level",
+                GameScreen.MESSAGE_FONT_SIZE, Color.YELLOW,
+                WINDOW_WIDTH / 2 - 200 * SCALE / 3, WINDOW_HEIGHT / 2 - 50 * SCALE / 3);
+
+        // Add flashing effect to second line as required
+        startBlinking(() -> blinkPrompt(completionText));
+    }
+
+    /**
+     * Handles game completion (finishing last level)
+     */
+    private void gameCompleted() {
+        gameState = GameState.GAME_COMPLETED;
+
+        playSound("assets/effects/GameCompleted.mp3");
+
+        // Show completion message as specified
+        BitmapText completionText = gameScreen.showMessage(
+                "You have completed the game!\nPress ENTER to play again\nPress ESC to exit",
+                GameScreen.SMALL_MESSAGE_FONT_SIZE, Color.YELLOW,
+                WINDOW_WIDTH / 2 - 200 * SCALE / 3, WINDOW_HEIGHT / 2 - 75 * SCALE / 3);
+
+        // Add flashing effect to second and third lines as required
+        startBlinking(() -> blinkPrompt(completionText));
+    }
+
+    /**
+     * Handles game over scenario
+     */
+    private void gameOver() {
+        gameState = GameState.GAME_OVER;
+
+        playSound("assets/effects/GameOver.mp3");
+
+        // Show game over message as specified
+        BitmapText gameOverText = gameScreen.showMessage("GAME OVER!\nPress ENTER to play again\nPress ESC to exit",
+                GameScreen.MESSAGE_FONT_SIZE, Color.RED,
+                WINDOW_WIDTH / 2 - 200 * SCALE / 3, WINDOW_HEIGHT / 2 - 75 * SCALE / 3);
+
+        // Add flashing effect to second and third lines as required
+        startBlinking(() -> blinkPrompt(gameOverText));
+    }
+
+    /**
+     * Shows or hides every line of a message after the first; the text itself never changes
+     */
+    private void blinkPrompt(BitmapText message) {
+        message.setVisibleLines(message.getVisibleLines() == 1 ? Integer.MAX_VALUE : 1);
+    }
+
+    /**
+     * Sets up custom cursor for crosshair during gameplay
+     * Returns to default cursor when outside window or in title screen
+     */
+    private void setupCustomCursor() {
+        try {
+            // Smooth and ratio-preserving, as the cursor was always scaled
+            Image cursorImage = Assets.getImage("crosshair/" + selectedCrosshair, 32, 32, true);
+            ImageCursor imageCursor = new ImageCursor(cursorImage, cursorImage.getWidth()/2, cursorImage.getHeight()/2);
+            scene.setCursor(imageCursor);
+        } catch (Exception e) {
+            System.err.println("Could not load cursor: " + e.getMessage());
+            scene.setCursor(javafx.scene.Cursor.CROSSHAIR);
+        }
+    }
+
+    /**
+     * Sets up keyboard event handlers for all game states
+     */
+    private void setupKeyHandlers() {
+        scene.setOnKeyPressed(e -> {
+            // The frame-time HUD toggle is available on every screen
+            if (e.getCode() == KeyCode.F3) {
+                performanceOverlay.toggle();
+                return;
+            }
+            // During a replay the log drives the game; live input would desync it
+            if (replayLog != null) {
+                return;
+            }
+            if (inputRecorder != null) {
+                inputRecorder.recordKey(levelManager.getSimulation().getTickCount(), gameState, e.getCode().name());
+            }
+            handleKey(e.getCode());
+        });
+    }
+
+    /**
+     * Reacts to a key press in the current game state; live and replayed keys both come through here
+     */
+    private void handleKey(KeyCode code) {
+        switch (gameState) {
+            case TITLE:
+                if (code == KeyCode.ENTER && assetsReady) {
+                    showBackgroundSelection();
+                } else if (code == KeyCode.ESCAPE) {
+                    primaryStage.close();
+                }
+                break;
+
+            case BACKGROUND_SELECTION:
+                if (code == KeyCode.LEFT) {
+                    selectedBackground = selectedBackground > 1 ? selectedBackground - 1 : 6;
+                    updateBackgroundPreview((StackPane) currentPane);
+                } else if (code == KeyCode.RIGHT) {
+                    selectedBackground = selectedBackground < 6 ? selectedBackground + 1 : 1;
+                    updateBackgroundPreview((StackPane) currentPane);
+                } else if (code == KeyCode.UP) {
+                    selectedCrosshair = selectedCrosshair > 1 ? selectedCrosshair - 1 : 7;
+                    updateBackgroundPreview((StackPane) currentPane);
+                } else if (code == KeyCode.DOWN) {
+                    selectedCrosshair = selectedCrosshair < 7 ? selectedCrosshair + 1 : 1;
+                    updateBackgroundPreview((StackPane) currentPane);
+                } else if (code == KeyCode.ENTER) {
+                    startGame();
+                } else if (code == KeyCode.ESCAPE) {
+                    showTitleScreen();
+                }
+                break;
+
+            case LEVEL_COMPLETED:
+                System.out.println("LEVEL_COMPLETED: Key pressed = " + code); // Debug
+                if (code == KeyCode.ENTER) {
+                    System.out.println("ENTER pressed, moving to next level"); // Debug
+                    introSoundNeeded = false; // No intro sound for level progression
+                    startLevel(levelManager.getCurrentLevel() + 1);
+                }
+                break;
+
+            case GAME_OVER:
+            case GAME_COMPLETED:
+                if (code == KeyCode.ENTER) {
+                    introSoundNeeded = false; // No intro sound for restart
+                    startLevel(1);
+                } else if (code == KeyCode.ESCAPE) {
+                    showTitleScreen();
+                }
+                break;
+        }
+    }
+
+    /**
+     * Sets up game-specific event handlers for shooting
+     * The trigger is the button press, not the release a click waits for
+     */
+    private void setupGameHandlers() {
+        scene.setOnMousePressed(e -> {
+            if (replayLog == null) {
+                fireShot(e.getX(), e.getY(), System.nanoTime(), displayedTick);
+            }
+        });
+    }
+
+    /**
+     * Pulls the trigger: the gunshot plays right away and the shot is queued
+     * for the next simulation step. Presses beyond the remaining ammo are ignored.
+     * @param pressNanos when the input arrived; JavaFX events carry no OS timestamp,
+     *                   so this is taken on entry to the event handler
+     * @param displayTick world tick of the frame on screen when the input arrived
+     */
+    private void fireShot(double x, double y, long pressNanos, double displayTick) {
+        if (gameState != GameState.PLAYING) {
+            return;
+        }
+        if (simulationThread != null) {
+            // Resolved on the simulation thread at its next step
+            if (simulationThread.fire(x, y, pressNanos, displayTick)) {
+                audioManager.playSound("assets/effects/Gunshot.mp3", pressNanos, gunshotLatency);
+            }
+            return;
+        }
+        if (levelManager.getAmmoLeft() <= pendingShots.size()) {
+            return;
+        }
+        // Play gunshot sound regardless of hit as required
+        audioManager.playSound("assets/effects/Gunshot.mp3", pressNanos, gunshotLatency);
+        pendingShots.add(x, y, pressNanos, displayTick);
+    }
+
+    /**
+     * Resolves every shot queued since the last step, in press order, against
+     * the frame that was on screen when each one was fired
+     */
+    private void resolveShots() {
+        while (!pendingShots.isEmpty()) {
+            if (gameState == GameState.PLAYING && levelManager.getAmmoLeft() > 0) {
+                double rewind = levelManager.getWorld().getHistoryTick() - pendingShots.peekDisplayTick();
+                handleShoot(pendingShots.peekX(), pendingShots.peekY(), Math.max(0, rewind));
+                hitLatency.record(System.nanoTime() - pendingShots.peekPressNanos());
+            }
+            pendingShots.remove();
+        }
+    }
+
+    /**
+     * Handles shooting mechanics
+     * Can hit multiple ducks with one shot as specified
+     * @param x Shot x coordinate in the window
+     * @param y Shot y coordinate in the window
+     * @param rewind Simulation steps between the displayed frame and now; capped at -Dduckhunt.rewindFrames
+     */
+    private void handleShoot(double x, double y, double rewind) {
+        rewind = Math.min(rewind, GameConstants.REWIND_FRAMES);
+        if (inputRecorder != null) {
+            inputRecorder.recordShot(levelManager.getSimulation().getTickCount(), gameState, x, y, rewind);
+        }
+
+        // Check if any duck was hit (can hit multiple ducks as specified)
+        long hitStart = System.nanoTime();
+        levelManager.handleShoot(x, y, rewind);
+        frameStats.add(FrameStats.HIT_TEST, System.nanoTime() - hitStart);
+    }
+
+    /**
+     * Plays a sound effect with proper volume control
+     * @param soundPath Path to the sound file
+     */
+    private void playSound(String soundPath) {
+        audioManager.playSound(soundPath);
+    }
+
+    /**
+     * Plays background music with loop option and proper volume control
+     * @param musicPath Path to the music file
+     * @param loop Whether to loop the music
+     */
+    private void playMusic(String musicPath, boolean loop) {
+        audioManager.playMusic(musicPath, loop);
+    }
+
+    /**
+     * Stops current music playback
+     */
+    private void stopMusic() {
+        audioManager.stopMusic();
+    }
+
+    /**
+     * Releases pooled sound effect players when the window closes
+     */
+    @Override
+    public void stop() {
+        if (simulationThread != null) {
+            simulationThread.stop();
+        }
+        if (audioManager != null) {
+            audioManager.dispose();
+        }
+        if (inputRecorder != null) {
+            inputRecorder.close();
+        }
+    }
+
+    /**
+     * Main method to launch the Duck Hunt application
+     * @param args Command line arguments (not used)
+     */
+    public static void main(String[] args) {
+        launch(args);
+    }
+}
\ No newline at end of file
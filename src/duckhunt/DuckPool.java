@@ -0,0 +1,60 @@
+// DuckPool.java
+package duckhunt;
+
+import java.util.ArrayList;
+import java.util.List;
+import javafx.scene.image.ImageView;
+
+/**
+ * Keeps duck handles and their views alive across levels and restarts.
+ * The simulation reuses one DuckWorld, so the duck at index i of every level
+ * can be shown by the same Duck and ImageView; a pooled duck only resets its
+ * sprite state. The first getCap() indices are retained, ducks beyond that
+ * (large flocks) are built per level and left to the garbage collector.
+ */
+public class DuckPool {
+    private final DuckWorld world;
+    private final AudioManager audioManager;
+    private final int cap;
+    private final List<Duck> pooled = new ArrayList<>();
+    private long created = 0;
+    private long reused = 0;
+
+    public DuckPool(DuckWorld world, AudioManager audioManager, int cap) {
+        this.world = world;
+        this.audioManager = audioManager;
+        this.cap = Math.max(0, cap);
+    }
+
+    /**
+     * Returns the duck for the given world index, reusing a pooled one when possible
+     * @param view view built in advance for a new duck, or null to create one if needed
+     */
+    public Duck acquire(int index, ImageView view) {
+        if (index < pooled.size()) {
+            reused++;
+            Duck duck = pooled.get(index);
+            duck.reset();
+            return duck;
+        }
+
+        created++;
+        Duck duck = view != null
+                ? new Duck(world, index, audioManager, view)
+                : new Duck(world, index, audioManager);
+        if (index == pooled.size() && pooled.size() < cap) {
+            pooled.add(duck);
+        }
+        return duck;
+    }
+
+    // Getters
+    public int size() { return pooled.size(); }
+    public int getCap() { return cap; }
+    public long getCreated() { return created; }
+    public long getReused() { return reused; }
+
+    public String getStatistics() {
+        return String.format("pooled=%d/%d, created=%d, reused=%d", pooled.size(), cap, created, reused);
+    }
+}
@@ -0,0 +1,26 @@
+// DuckRenderState.java
+package duckhunt;
+
+/**
+ * What the renderers need to draw the ducks of one frame. DuckWorld answers
+ * from the live simulation; WorldSnapshots answers from the last snapshot
+ * published by the simulation thread.
+ */
+public interface DuckRenderState {
+    int getCount();
+
+    /** Color index into GameConstants.DUCK_COLORS */
+    int getColor(int i);
+
+    /** Sprite frame (1-8), see DuckWorld.getSpriteFrame() */
+    int getSpriteFrame(int i);
+
+    double getScaleX(int i);
+
+    double getScaleY(int i);
+
+    /** Position between the previous and the latest step; alpha 0 is the previous one */
+    double getRenderX(int i, double alpha);
+
+    double getRenderY(int i, double alpha);
+}
@@ -0,0 +1,552 @@
+// DuckWorld.java
+package duckhunt;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Struct-of-arrays store for every duck in the current level.
+ * Positions, velocities, animation frames and states live in primitive arrays
+ * indexed by duck, and the number of ducks still flying is maintained as ducks
+ * are shot, so a simulation tick walks flat arrays and allocates nothing.
+ *
+ * Large flocks are moved in parallel: the movement phase is split across the
+ * fork-join pool once the duck count reaches a threshold, then the grid is
+ * updated sequentially. tick() only returns after every worker finished, so
+ * the caller (the FX thread) sees the complete frame.
+ *
+ * For lag-compensated shots every duck keeps its positions and mirroring
+ * from the last few ticks in a fixed ring (REWIND_FRAMES + 1 slots per duck,
+ * shared tick index), so a shot can be tested against the ducks as they were
+ * on screen when the player fired rather than as they are when it is resolved.
+ */
+public class DuckWorld implements DuckRenderState {
+    public static final double DUCK_SIZE = 60 * GameConstants.SCALE;
+    public static final double MAX_X = GameConstants.WINDOW_WIDTH - DUCK_SIZE;
+    public static final double MAX_Y = GameConstants.WINDOW_HEIGHT - DUCK_SIZE;
+
+    // Duck states
+    public static final byte FLYING = 0;
+    public static final byte FALLING = 1;
+    public static final byte LANDED = 2;
+
+    // Falling sequence: a shot duck hangs in the air, then drops under gravity
+    public static final int SHOT_PAUSE_TICKS = 31; // ~500 ms at the 16 ms step
+    public static final double GRAVITY = 0.5 * GameConstants.SCALE; // pixels per step, per step
+    // Wings of flying ducks move on to the next frame every this many ticks
+    public static final int FLAP_TICKS = 12; // ~200 ms at the 16 ms step
+
+    private int capacity;
+    private int count = 0;
+    private int liveCount = 0;
+
+    private double[] x, y;
+    private double[] previousX, previousY;
+    private double[] velocityX, velocityY;
+    private byte[] color;
+    private byte[] animationFrame;
+    private byte[] state;
+    private int[] stateTicks;
+    // Ducks that landed during the last tick() or settle(), in index order
+    private int[] landed;
+    private int landedCount = 0;
+
+    // Position and mirror variant history for rewound hit-tests; slot (tick % historyLength)
+    // of duck i lives at i * historyLength + slot
+    private final int historyLength = GameConstants.REWIND_FRAMES + 1;
+    private double[] historyX, historyY;
+    private byte[] historyVariant;
+    private long historyTick = 0;
+    private double maxSpeed = 0;
+
+    // Broad phase for hit-testing; holds flying ducks only
+    private final SpatialGrid grid = new SpatialGrid(GameConstants.WINDOW_WIDTH, GameConstants.WINDOW_HEIGHT, DUCK_SIZE);
+    private int[] candidates = new int[16];
+    // Narrow phase after the bounding box, fetched on the first hit test; off tests boxes only
+    private HitMasks hitMasks;
+    private boolean pixelHitTest = !GameConstants.BOX_HIT_TEST;
+
+    // Parallel movement settings
+    private static final int LEAF_SIZE = 1024;
+    private int parallelThreshold = GameConstants.PARALLEL_THRESHOLD;
+    private boolean sequential = GameConstants.SEQUENTIAL_SIMULATION;
+
+    // Per-phase statistics
+    private long moveNanos = 0;
+    private long gridNanos = 0;
+    private long parallelTicks = 0;
+    private long sequentialTicks = 0;
+
+    public DuckWorld(int initialCapacity) {
+        allocate(Math.max(1, initialCapacity));
+    }
+
+    private void allocate(int newCapacity) {
+        x = grow(x, newCapacity);
+        y = grow(y, newCapacity);
+        previousX = grow(previousX, newCapacity);
+        previousY = grow(previousY, newCapacity);
+        velocityX = grow(velocityX, newCapacity);
+        velocityY = grow(velocityY, newCapacity);
+        color = grow(color, newCapacity);
+        animationFrame = grow(animationFrame, newCapacity);
+        state = grow(state, newCapacity);
+        stateTicks = grow(stateTicks, newCapacity);
+        landed = grow(landed, newCapacity);
+        historyX = growHistory(historyX, newCapacity);
+        historyY = growHistory(historyY, newCapacity);
+        historyVariant = growHistory(historyVariant, newCapacity);
+        grid.ensureCapacity(newCapacity);
+        capacity = newCapacity;
+    }
+
+    private double[] grow(double[] array, int newCapacity) {
+        double[] grown = new double[newCapacity];
+        if (array != null) {
+            System.arraycopy(array, 0, grown, 0, count);
+        }
+        return grown;
+    }
+
+    private double[] growHistory(double[] array, int newCapacity) {
+        double[] grown = new double[newCapacity * historyLength];
+        if (array != null) {
+            System.arraycopy(array, 0, grown, 0, count * historyLength);
+        }
+        return grown;
+    }
+
+    private byte[] growHistory(byte[] array, int newCapacity) {
+        byte[] grown = new byte[newCapacity * historyLength];
+        if (array != null) {
+            System.arraycopy(array, 0, grown, 0, count * historyLength);
+        }
+        return grown;
+    }
+
+    private int[] grow(int[] array, int newCapacity) {
+        int[] grown = new int[newCapacity];
+        if (array != null) {
+            System.arraycopy(array, 0, grown, 0, count);
+        }
+        return grown;
+    }
+
+    private byte[] grow(byte[] array, int newCapacity) {
+        byte[] grown = new byte[newCapacity];
+        if (array != null) {
+            System.arraycopy(array, 0, grown, 0, count);
+        }
+        return grown;
+    }
+
+    /**
+     * Removes all ducks but keeps the arrays for the next level
+     */
+    public void clear() {
+        count = 0;
+        liveCount = 0;
+        landedCount = 0;
+        maxSpeed = 0;
+        grid.clear();
+    }
+
+    /**
+     * Adds a flying duck and returns its index
+     */
+    public int spawn(int colorIndex, double startX, double startY, double velX, double velY) {
+        if (count == capacity) {
+            allocate(capacity * 2);
+        }
+        int i = count++;
+        x[i] = previousX[i] = startX;
+        y[i] = previousY[i] = startY;
+        velocityX[i] = velX;
+        velocityY[i] = velY;
+        color[i] = (byte) colorIndex;
+        animationFrame[i] = 1;
+        state[i] = FLYING;
+        stateTicks[i] = 0;
+        liveCount++;
+        maxSpeed = Math.max(maxSpeed, Math.max(Math.abs(velX), Math.abs(velY)));
+        // Before its first tick the duck has always been at its spawn point
+        int base = i * historyLength;
+        byte variant = (byte) HitMasks.variant(getScaleX(i), getScaleY(i));
+        for (int slot = 0; slot < historyLength; slot++) {
+            historyX[base + slot] = startX;
+            historyY[base + slot] = startY;
+            historyVariant[base + slot] = variant;
+        }
+        grid.insert(i, startX, startY);
+        return i;
+    }
+
+    /**
+     * Advances every flying duck by one simulation step
+     */
+    public void tick() {
+        long start = System.nanoTime();
+        if (!sequential && count >= parallelThreshold) {
+            ForkJoinPool.commonPool().invoke(new MoveTask(0, count));
+            parallelTicks++;
+        } else {
+            for (int i = 0; i < count; i++) {
+                move(i);
+            }
+            sequentialTicks++;
+        }
+        long moved = System.nanoTime();
+
+        // The grid's linked lists are shared, so they are updated on this thread only
+        historyTick++;
+        if (historyTick % FLAP_TICKS == 0) {
+            flapAll();
+        }
+        int slot = (int) (historyTick % historyLength);
+        landedCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (state[i] == FLYING) {
+                grid.move(i, x[i], y[i]);
+                historyX[i * historyLength + slot] = x[i];
+                historyY[i * historyLength + slot] = y[i];
+                historyVariant[i * historyLength + slot] = (byte) HitMasks.variant(getScaleX(i), getScaleY(i));
+            } else if (stateTicks[i] < 0) {
+                collectLanding(i);
+            }
+        }
+
+        moveNanos += moved - start;
+        gridNanos += System.nanoTime() - moved;
+    }
+
+    /**
+     * Advances only the shot ducks; flying ducks hold still.
+     * Used after the level has ended so falling ducks still reach the ground.
+     */
+    public void settle() {
+        landedCount = 0;
+        for (int i = 0; i < count; i++) {
+            previousX[i] = x[i];
+            previousY[i] = y[i];
+            if (state[i] == FALLING) {
+                fall(i);
+                if (stateTicks[i] < 0) {
+                    collectLanding(i);
+                }
+            }
+        }
+    }
+
+    private void collectLanding(int i) {
+        stateTicks[i] = 0;
+        landed[landedCount++] = i;
+    }
+
+    /**
+     * Advances a single duck by one simulation step and reflects it off the window edges
+     */
+    public void step(int i) {
+        move(i);
+        if (state[i] == FLYING) {
+            grid.move(i, x[i], y[i]);
+        }
+    }
+
+    /**
+     * Movement and wall reflection for one duck; touches only that duck's slots
+     */
+    private void move(int i) {
+        previousX[i] = x[i];
+        previousY[i] = y[i];
+        if (state[i] == FALLING) {
+            fall(i);
+            return;
+        }
+        if (state[i] != FLYING) {
+            return;
+        }
+
+        double newX = x[i] + velocityX[i];
+        double newY = y[i] + velocityY[i];
+
+        if (newX <= 0 || newX >= MAX_X) {
+            velocityX[i] = -velocityX[i];
+            newX = Math.max(0, Math.min(MAX_X, newX));
+        }
+        if (newY <= 0 || newY >= MAX_Y) {
+            velocityY[i] = -velocityY[i];
+            newY = Math.max(0, Math.min(MAX_Y, newY));
+        }
+
+        x[i] = newX;
+        y[i] = newY;
+    }
+
+    /**
+     * Falling sequence for one shot duck: the shot frame is held for a moment,
+     * then the duck drops with increasing speed until it lands
+     */
+    private void fall(int i) {
+        if (++stateTicks[i] < SHOT_PAUSE_TICKS) {
+            return;
+        }
+        animationFrame[i] = 8;
+        velocityY[i] += GRAVITY;
+        double newY = y[i] + velocityY[i];
+        if (newY >= MAX_Y) {
+            land(i);
+        } else {
+            y[i] = newY;
+        }
+    }
+
+    /**
+     * Splits the movement phase into index ranges for the fork-join pool
+     */
+    private class MoveTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from, to;
+
+        MoveTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                for (int i = from; i < to; i++) {
+                    move(i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new MoveTask(from, middle), new MoveTask(middle, to));
+        }
+    }
+
+    /**
+     * Cycles the wing-flap frame (1-3) of a flying duck
+     */
+    public void flap(int i) {
+        if (state[i] == FLYING) {
+            animationFrame[i] = (byte) ((animationFrame[i] % 3) + 1);
+        }
+    }
+
+    /**
+     * Advances the wing-flap frame of every flying duck; tick() calls it every FLAP_TICKS,
+     * so the frame on screen, the hit test and replays all agree on it
+     */
+    public void flapAll() {
+        for (int i = 0; i < count; i++) {
+            flap(i);
+        }
+    }
+
+    /**
+     * Marks a flying duck as shot; returns false if it was already down
+     */
+    public boolean kill(int i) {
+        if (state[i] != FLYING) {
+            return false;
+        }
+        state[i] = FALLING;
+        stateTicks[i] = 0;
+        animationFrame[i] = 7;
+        // velocityY becomes the fall speed; velocityX is kept so the sprite stays mirrored
+        velocityY[i] = 0;
+        grid.remove(i);
+        previousX[i] = x[i];
+        previousY[i] = y[i];
+        liveCount--;
+        return true;
+    }
+
+    /**
+     * Puts a shot duck on the ground; the sequential part of the next tick reports it
+     */
+    public void land(int i) {
+        state[i] = LANDED;
+        // Marks the landing for collectLanding(), which may not run on the thread that moved the duck
+        stateTicks[i] = -1;
+        y[i] = MAX_Y;
+        velocityY[i] = 0;
+    }
+
+    /**
+     * Checks if a point lies inside a duck's bounding box and on an opaque pixel of its sprite
+     */
+    public boolean contains(int i, double pointX, double pointY) {
+        return contains(i, x[i], y[i], getSpriteFrame(i), HitMasks.variant(getScaleX(i), getScaleY(i)),
+                pointX, pointY);
+    }
+
+    private boolean contains(int i, double duckX, double duckY, int frame, int variant, double pointX, double pointY) {
+        if (pointX < duckX || pointX > duckX + DUCK_SIZE || pointY < duckY || pointY > duckY + DUCK_SIZE) {
+            return false;
+        }
+        if (!pixelHitTest) {
+            return true;
+        }
+        if (hitMasks == null) {
+            hitMasks = HitMasks.getDuckMasks();
+        }
+        return hitMasks.isOpaque(hitMasks.mask(color[i], frame, variant), pointX - duckX, pointY - duckY);
+    }
+
+    /**
+     * Collects the flying ducks whose sprite covers the point.
+     * Only ducks filed in the grid cells around the point are tested.
+     * @param hits receives the indices of hit ducks; must hold getCount() entries
+     * @return number of hits written
+     */
+    public int hitTest(double pointX, double pointY, int[] hits) {
+        if (candidates.length < count) {
+            candidates = new int[capacity];
+        }
+        int candidateCount = grid.query(pointX, pointY, candidates);
+        int hitCount = 0;
+        for (int c = 0; c < candidateCount; c++) {
+            int i = candidates[c];
+            if (state[i] == FLYING && contains(i, pointX, pointY)) {
+                hits[hitCount++] = i;
+            }
+        }
+        return hitCount;
+    }
+
+    /**
+     * Like hitTest(), but against the positions the ducks had ticksAgo ticks
+     * before the current one, e.g. the frame on screen when a shot was fired.
+     * Fractional ticks interpolate the way rendering does; the rewind is
+     * clamped to REWIND_FRAMES. Only ducks still flying now can be hit.
+     */
+    public int hitTest(double pointX, double pointY, double ticksAgo, int[] hits) {
+        // Never before tick 0; a shot aimed at the first frame can arrive before the first step
+        double rewind = Math.max(0, Math.min(Math.min(historyLength - 1, historyTick), ticksAgo));
+        if (rewind == 0) {
+            return hitTest(pointX, pointY, hits);
+        }
+        if (candidates.length < count) {
+            candidates = new int[capacity];
+        }
+
+        // Widen the grid query by the farthest any duck can have moved since then
+        double time = historyTick - rewind;
+        long olderTick = (long) Math.floor(time);
+        double fraction = time - olderTick;
+        // A frame between two ticks shows the newer tick's sprite
+        long frameTick = (long) Math.ceil(time);
+        int olderSlot = (int) (olderTick % historyLength);
+        int newerSlot = (int) ((olderTick + 1) % historyLength);
+        int frameSlot = frameTick == olderTick ? olderSlot : newerSlot;
+        int candidateCount = grid.query(pointX, pointY, Math.ceil(rewind) * maxSpeed, candidates);
+
+        int hitCount = 0;
+        for (int c = 0; c < candidateCount; c++) {
+            int i = candidates[c];
+            if (state[i] != FLYING) {
+                continue;
+            }
+            int older = i * historyLength + olderSlot;
+            int newer = i * historyLength + newerSlot;
+            double pastX = historyX[older] + (historyX[newer] - historyX[older]) * fraction;
+            double pastY = historyY[older] + (historyY[newer] - historyY[older]) * fraction;
+            // Mirrored as shown then: a wall bounce since the shot flips the sprite now
+            int variant = historyVariant[i * historyLength + frameSlot];
+            if (contains(i, pastX, pastY, getSpriteFrame(i, frameTick), variant, pointX, pointY)) {
+                hits[hitCount++] = i;
+            }
+        }
+        return hitCount;
+    }
+
+    /**
+     * Sprite frame (1-8) for the duck's current state and direction:
+     * 1-3 diagonal flight, 4-6 horizontal flight, 7-8 falling
+     */
+    public int getSpriteFrame(int i) {
+        if (state[i] != FLYING) {
+            return animationFrame[i];
+        }
+        return isHorizontal(i) ? animationFrame[i] + 3 : animationFrame[i];
+    }
+
+    /**
+     * Sprite frame a flying duck showed at an earlier tick, undoing the flaps since then
+     */
+    private int getSpriteFrame(int i, long tick) {
+        int flaps = (int) (historyTick / FLAP_TICKS - tick / FLAP_TICKS);
+        int wing = Math.floorMod(animationFrame[i] - 1 - flaps, 3) + 1;
+        return isHorizontal(i) ? wing + 3 : wing;
+    }
+
+    public boolean isHorizontal(int i) {
+        return Math.abs(velocityY[i]) < 0.1;
+    }
+
+    /**
+     * Horizontal mirror factor: ducks flying left are drawn flipped
+     */
+    public double getScaleX(int i) {
+        return velocityX[i] < 0 ? -1 : 1;
+    }
+
+    /**
+     * Vertical mirror factor: diagonal ducks flying down are drawn upside down
+     */
+    public double getScaleY(int i) {
+        return state[i] == FLYING && !isHorizontal(i) && velocityY[i] > 0 ? -1 : 1;
+    }
+
+    public double getRenderX(int i, double alpha) {
+        return previousX[i] + (x[i] - previousX[i]) * alpha;
+    }
+
+    public double getRenderY(int i, double alpha) {
+        return previousY[i] + (y[i] - previousY[i]) * alpha;
+    }
+
+    /**
+     * Per-phase timing summary; averages are per tick
+     */
+    public String getStatistics() {
+        long ticks = parallelTicks + sequentialTicks;
+        return String.format("ticks=%d (parallel=%d), move avg=%.3f ms, grid avg=%.3f ms, threshold=%d%s",
+                ticks, parallelTicks,
+                ticks == 0 ? 0 : moveNanos / (double) ticks / 1_000_000.0,
+                ticks == 0 ? 0 : gridNanos / (double) ticks / 1_000_000.0,
+                parallelThreshold, sequential ? ", forced sequential" : "");
+    }
+
+    public void resetStatistics() {
+        moveNanos = 0;
+        gridNanos = 0;
+        parallelTicks = 0;
+        sequentialTicks = 0;
+    }
+
+    // Getters and Setters
+    public void setSequential(boolean sequential) { this.sequential = sequential; }
+    public void setParallelThreshold(int threshold) { this.parallelThreshold = threshold; }
+    public long getMoveNanos() { return moveNanos; }
+    public long getGridNanos() { return gridNanos; }
+    public int getCount() { return count; }
+    public long getHistoryTick() { return historyTick; }
+    public boolean isPixelHitTest() { return pixelHitTest; }
+    public void setPixelHitTest(boolean pixelHitTest) { this.pixelHitTest = pixelHitTest; }
+    public int getLiveCount() { return liveCount; }
+    public int getLandedCount() { return landedCount; }
+    public int getLanded(int n) { return landed[n]; }
+    public double getX(int i) { return x[i]; }
+    public double getY(int i) { return y[i]; }
+    public double getVelocityX(int i) { return velocityX[i]; }
+    public double getVelocityY(int i) { return velocityY[i]; }
+    public int getColor(int i) { return color[i]; }
+    public byte getState(int i) { return state[i]; }
+    public boolean isAlive(int i) { return state[i] == FLYING; }
+    public int getAnimationFrame(int i) { return animationFrame[i]; }
+    public void setAnimationFrame(int i, int frame) { animationFrame[i] = (byte) frame; }
+}
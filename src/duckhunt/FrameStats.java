@@ -0,0 +1,109 @@
+// FrameStats.java
+package duckhunt;
+
+/**
+ * Frame-time histogram and per-phase timing for the game loop.
+ * Frame intervals go into a TimeHistogram of fixed 0.1 ms buckets, so
+ * percentiles cost no allocation and no sorting. Phase times are summed within a frame and folded
+ * into per-window averages and maxima when the frame ends.
+ */
+public class FrameStats {
+    // Phases of a frame
+    public static final int STEP = 0;
+    public static final int MOVE = 1;
+    public static final int GRID = 2;
+    public static final int HIT_TEST = 3;
+    public static final int RENDER = 4;
+    public static final int LAYOUT = 5;
+    public static final String[] PHASE_NAMES = {"step", " move", " grid", "hit", "render", "layout"};
+
+    // 0 - 100 ms; slower frames go to the overflow bucket
+    public static final int BUCKET_COUNT = 1000;
+
+    private final TimeHistogram histogram = new TimeHistogram(BUCKET_COUNT);
+
+    private final long[] currentFrame = new long[PHASE_NAMES.length];
+    private final long[] windowTotal = new long[PHASE_NAMES.length];
+    private final long[] windowMax = new long[PHASE_NAMES.length];
+    private long windowFrames = 0;
+    private long windowNanos = 0;
+
+    /**
+     * Adds time spent in a phase to the frame in progress
+     */
+    public void add(int phase, long nanos) {
+        currentFrame[phase] += nanos;
+    }
+
+    /**
+     * Closes the frame in progress; frameNanos is the interval since the previous pulse
+     */
+    public void endFrame(long frameNanos) {
+        histogram.record(frameNanos);
+
+        for (int phase = 0; phase < currentFrame.length; phase++) {
+            windowTotal[phase] += currentFrame[phase];
+            windowMax[phase] = Math.max(windowMax[phase], currentFrame[phase]);
+            currentFrame[phase] = 0;
+        }
+        windowFrames++;
+        windowNanos += frameNanos;
+    }
+
+    /**
+     * Frame time in milliseconds below which the given fraction of frames fall
+     */
+    public double getPercentileMillis(double fraction) {
+        return histogram.getPercentileMillis(fraction);
+    }
+
+    /**
+     * Frames per second over the current window
+     */
+    public double getWindowFps() {
+        return windowNanos == 0 ? 0 : windowFrames * 1_000_000_000.0 / windowNanos;
+    }
+
+    /**
+     * Average milliseconds per frame spent in a phase over the current window
+     */
+    public double getWindowAverageMillis(int phase) {
+        return windowFrames == 0 ? 0 : windowTotal[phase] / (double) windowFrames / 1_000_000.0;
+    }
+
+    /**
+     * Worst single frame for a phase over the current window
+     */
+    public double getWindowMaxMillis(int phase) {
+        return windowMax[phase] / 1_000_000.0;
+    }
+
+    /**
+     * Starts a new averaging window; the histogram keeps accumulating
+     */
+    public void resetWindow() {
+        for (int phase = 0; phase < windowTotal.length; phase++) {
+            windowTotal[phase] = 0;
+            windowMax[phase] = 0;
+        }
+        windowFrames = 0;
+        windowNanos = 0;
+    }
+
+    /**
+     * Clears the histogram and the current window
+     */
+    public void reset() {
+        histogram.reset();
+        resetWindow();
+    }
+
+    public String getStatistics() {
+        return String.format("frames=%d, p50=%.1f ms, p99=%.1f ms, max=%.1f ms",
+                getFrames(), getPercentileMillis(0.50), getPercentileMillis(0.99), getMaxFrameMillis());
+    }
+
+    // Getters
+    public long getFrames() { return histogram.getSamples(); }
+    public double getMaxFrameMillis() { return histogram.getMaxMillis(); }
+}
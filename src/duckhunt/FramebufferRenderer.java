@@ -0,0 +1,169 @@
+// FramebufferRenderer.java
+package duckhunt;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import java.util.Arrays;
+
+/**
+ * Rendering backend that composes every frame at the original 256x240
+ * resolution into one int[] pixel buffer and lets a single ImageView scale
+ * it to the window with nearest-neighbor sampling.
+ *
+ * Background, ducks and foreground are copied in software from ARGB arrays
+ * read once from the native-size images, so memory and per-frame fill cost
+ * stay the same whatever SCALE is; only the final upscale grows with it.
+ * Ducks are drawn straight from the DuckWorld, or the snapshots of the
+ * simulation thread, and need no Duck views.
+ */
+public class FramebufferRenderer {
+    public static final int WIDTH = GameConstants.NATIVE_WIDTH;
+    public static final int HEIGHT = GameConstants.NATIVE_HEIGHT;
+    // Duck box in framebuffer pixels; the sprites are resampled to it once
+    public static final int SPRITE_SIZE = (int) Math.round(DuckWorld.DUCK_SIZE / GameConstants.SCALE);
+
+    private static final int[][] duckSprites = new int[GameConstants.DUCK_COLORS.length * SpriteCache.FRAME_COUNT][];
+
+    private final int[] pixels = new int[WIDTH * HEIGHT];
+    private final WritableImage frame = new WritableImage(WIDTH, HEIGHT);
+    private final ImageView view = new ImageView(frame);
+    private int[] background;
+    private int[] foreground;
+
+    public FramebufferRenderer() {
+        view.setFitWidth(GameConstants.WINDOW_WIDTH);
+        view.setFitHeight(GameConstants.WINDOW_HEIGHT);
+        view.setSmooth(false);
+    }
+
+    /**
+     * Composes one frame: background, every duck between its previous and
+     * current step, then foreground, and uploads it in one pixel write
+     */
+    public void render(DuckRenderState world, double alpha) {
+        if (background != null) {
+            System.arraycopy(background, 0, pixels, 0, pixels.length);
+        } else {
+            Arrays.fill(pixels, 0xFF000000);
+        }
+
+        for (int i = 0; i < world.getCount(); i++) {
+            int[] sprite = getDuckSprite(world.getColor(i), world.getSpriteFrame(i));
+            if (sprite != null) {
+                blit(sprite, SPRITE_SIZE, SPRITE_SIZE,
+                        (int) Math.floor(world.getRenderX(i, alpha) / GameConstants.SCALE),
+                        (int) Math.floor(world.getRenderY(i, alpha) / GameConstants.SCALE),
+                        world.getScaleX(i) < 0, world.getScaleY(i) < 0);
+            }
+        }
+
+        if (foreground != null) {
+            blit(foreground, WIDTH, HEIGHT, 0, 0, false, false);
+        }
+
+        frame.getPixelWriter().setPixels(0, 0, WIDTH, HEIGHT, PixelFormat.getIntArgbInstance(), pixels, 0, WIDTH);
+    }
+
+    /**
+     * Copies an ARGB sprite into the buffer, clipped to its edges and
+     * mirrored as requested; transparent pixels are skipped and partly
+     * transparent ones blended over what is already there
+     */
+    private void blit(int[] sprite, int width, int height, int left, int top, boolean flipX, boolean flipY) {
+        int startColumn = Math.max(0, -left);
+        int endColumn = Math.min(width, WIDTH - left);
+        int startRow = Math.max(0, -top);
+        int endRow = Math.min(height, HEIGHT - top);
+        for (int row = startRow; row < endRow; row++) {
+            int source = (flipY ? height - 1 - row : row) * width;
+            int target = (top + row) * WIDTH + left;
+            for (int column = startColumn; column < endColumn; column++) {
+                int color = sprite[source + (flipX ? width - 1 - column : column)];
+                int a = color >>> 24;
+                if (a == 0xFF) {
+                    pixels[target + column] = color;
+                } else if (a != 0) {
+                    pixels[target + column] = blend(color, pixels[target + column], a);
+                }
+            }
+        }
+    }
+
+    private static int blend(int color, int under, int a) {
+        int r = (((color >> 16) & 0xFF) * a + ((under >> 16) & 0xFF) * (255 - a)) / 255;
+        int g = (((color >> 8) & 0xFF) * a + ((under >> 8) & 0xFF) * (255 - a)) / 255;
+        int b = ((color & 0xFF) * a + (under & 0xFF) * (255 - a)) / 255;
+        return 0xFF000000 | (r << 16) | (g << 8) | b;
+    }
+
+    /**
+     * ARGB pixels of a duck frame at SPRITE_SIZE, read once from the shared image cache
+     */
+    public static int[] getDuckSprite(int colorIndex, int frame) {
+        if (colorIndex < 0 || colorIndex >= GameConstants.DUCK_COLORS.length
+                || frame < 1 || frame > SpriteCache.FRAME_COUNT) {
+            return null;
+        }
+        int slot = colorIndex * SpriteCache.FRAME_COUNT + frame - 1;
+        int[] sprite = duckSprites[slot];
+        if (sprite == null) {
+            String name = "duck_" + GameConstants.DUCK_COLORS[colorIndex] + "/" + frame;
+            sprite = readPixels(Assets.getImage(name, SPRITE_SIZE, SPRITE_SIZE), SPRITE_SIZE, SPRITE_SIZE);
+            duckSprites[slot] = sprite;
+        }
+        return sprite;
+    }
+
+    /**
+     * Reads every duck frame up front so the first frames do not stall
+     */
+    public static void preload() {
+        for (int c = 0; c < GameConstants.DUCK_COLORS.length; c++) {
+            for (int frame = 1; frame <= SpriteCache.FRAME_COUNT; frame++) {
+                getDuckSprite(c, frame);
+            }
+        }
+    }
+
+    /**
+     * Reads an image into ARGB pixels at the given size; null if it is missing or sized differently
+     */
+    private static int[] readPixels(Image image, int width, int height) {
+        if (image == null || (int) image.getWidth() != width || (int) image.getHeight() != height) {
+            return null;
+        }
+        PixelReader reader = image.getPixelReader();
+        if (reader == null) {
+            return null;
+        }
+        int[] argb = new int[width * height];
+        reader.getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), argb, 0, width);
+        return argb;
+    }
+
+    /**
+     * Uses the given native-size background/foreground pair from now on
+     */
+    public void setLayers(Image background, Image foreground) {
+        this.background = readPixels(background, WIDTH, HEIGHT);
+        this.foreground = readPixels(foreground, WIDTH, HEIGHT);
+    }
+
+    public ImageView getView() { return view; }
+
+    /**
+     * Bytes held by the frame buffer, the layers and the duck sprites read so far
+     */
+    public long getPixelBytes() {
+        long bytes = pixels.length * 4L * 2; // buffer plus the WritableImage behind it
+        bytes += background != null ? background.length * 4L : 0;
+        bytes += foreground != null ? foreground.length * 4L : 0;
+        for (int[] sprite : duckSprites) {
+            bytes += sprite != null ? sprite.length * 4L : 0;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,48 @@
+// GameConstants.java
+package duckhunt;
+
+/**
+ * Contains all game configuration constants
+ */
+public class GameConstants {
+    public static final double SCALE = 3.0;
+    public static final double VOLUME = 0.025;
+    // Resolution of the original art
+    public static final int NATIVE_WIDTH = 256;
+    public static final int NATIVE_HEIGHT = 240;
+    public static final int WINDOW_WIDTH = (int)(NATIVE_WIDTH * SCALE);
+    public static final int WINDOW_HEIGHT = (int)(NATIVE_HEIGHT * SCALE);
+    public static final int TOTAL_LEVELS = 6;
+    public static final String[] DUCK_COLORS = {"black", "blue", "red"};
+    public static final String ATLAS_PATH = "assets/atlas.pack";
+
+    // Rendering backend: -Dduckhunt.canvas=true draws the playfield into one Canvas
+    public static final boolean CANVAS_RENDERER = Boolean.getBoolean("duckhunt.canvas");
+    // -Dduckhunt.framebuffer=true composes frames at native resolution and upscales them once
+    public static final boolean FRAMEBUFFER_RENDERER = Boolean.getBoolean("duckhunt.framebuffer");
+    // Only the default backend shows each duck as its own ImageView
+    public static final boolean DUCK_VIEWS = !CANVAS_RENDERER && !FRAMEBUFFER_RENDERER;
+    // Frame budget the QualityGovernor judges the HUD against; -Dduckhunt.fixedQuality=true turns it off
+    public static final int TARGET_FPS = Integer.getInteger("duckhunt.targetFps", 60);
+    public static final boolean ADAPTIVE_QUALITY = !Boolean.getBoolean("duckhunt.fixedQuality");
+    // Flock event mode: -Dduckhunt.flock=N spawns N ducks per level (0 = normal levels)
+    public static final int FLOCK_SIZE = Integer.getInteger("duckhunt.flock", 0);
+    // Duck count at which movement is split across cores; -Dduckhunt.sequential=true disables it
+    public static final int PARALLEL_THRESHOLD = Integer.getInteger("duckhunt.parallelThreshold", 20000);
+    public static final boolean SEQUENTIAL_SIMULATION = Boolean.getBoolean("duckhunt.sequential");
+    // Frame-time HUD, toggled with F3 in game; -Dduckhunt.hud=true shows it from the start
+    public static final boolean PERFORMANCE_OVERLAY = Boolean.getBoolean("duckhunt.hud");
+    // -Dduckhunt.stats=true prints simulation, frame and cache statistics to the console at every level start
+    public static final boolean LEVEL_STATISTICS = Boolean.getBoolean("duckhunt.stats");
+    // Input recording: -Dduckhunt.record=file writes a session log, -Dduckhunt.replay=file plays one back
+    public static final String RECORD_PATH = System.getProperty("duckhunt.record");
+    public static final String REPLAY_PATH = System.getProperty("duckhunt.replay");
+    // -Dduckhunt.simulationThread=true steps the simulation on its own thread (not while recording or replaying)
+    public static final boolean SIMULATION_THREAD = Boolean.getBoolean("duckhunt.simulationThread");
+    // Lag compensation: shots are tested against the frame on screen, at most this many ticks back (0 = off)
+    public static final int REWIND_FRAMES = Math.max(0, Integer.getInteger("duckhunt.rewindFrames", 6));
+    // Shots must land on an opaque sprite pixel; -Dduckhunt.boxHits=true accepts the whole bounding box
+    public static final boolean BOX_HIT_TEST = Boolean.getBoolean("duckhunt.boxHits");
+    // Ducks and their views kept for reuse across levels and restarts; -Dduckhunt.duckPool=0 disables pooling
+    public static final int DUCK_POOL_CAP = Integer.getInteger("duckhunt.duckPool", 256);
+}
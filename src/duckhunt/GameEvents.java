@@ -0,0 +1,124 @@
+// GameEvents.java
+package duckhunt;
+
+/**
+ * Ring buffer of game events from the simulation to its consumers (sounds,
+ * HUD, screens). The simulation publishes as things happen; the FX thread
+ * drains every event once per step and dispatches them in order.
+ *
+ * Single producer, single consumer: the slots are preallocated primitive
+ * arrays, the producer only advances writeIndex and the consumer only
+ * advances readIndex, and the volatile index writes publish the slots, so
+ * neither side locks or allocates. A full buffer drops the new event and
+ * counts it instead of blocking the simulation.
+ *
+ * Because any event can be dropped, consumers use them only for reactions
+ * that may be lost under overload, such as sounds. Anything the game cannot
+ * miss, like the ammo count or how a level ended, is read from the
+ * simulation state (or the simulation thread's snapshot) instead.
+ */
+public class GameEvents {
+    // Event types
+    public static final int SHOT_FIRED = 0;      // value = ducks hit
+    public static final int DUCK_HIT = 1;        // subject = duck index
+    public static final int DUCK_LANDED = 2;     // subject = duck index
+    // The rest mirror state changes for logging and statistics; the state itself is authoritative
+    public static final int AMMO_CHANGED = 3;    // value = ammo left
+    public static final int LEVEL_STARTED = 4;   // subject = duck count, value = level
+    public static final int LEVEL_COMPLETED = 5; // value = level
+    public static final int GAME_COMPLETED = 6;  // value = level
+    public static final int GAME_OVER = 7;       // value = level
+    public static final String[] NAMES = {"shot", "hit", "landed", "ammo", "start", "completed", "won", "over"};
+
+    /**
+     * Receives drained events on the consumer thread
+     */
+    public interface Handler {
+        void onEvent(int type, int subject, int value);
+    }
+
+    private final int mask;
+    private final byte[] types;
+    private final int[] subjects;
+    private final int[] values;
+    private volatile long writeIndex = 0;
+    private volatile long readIndex = 0;
+
+    // Producer side
+    private final long[] published = new long[NAMES.length];
+    private long dropped = 0;
+    // Consumer side
+    private long drains = 0;
+    private long consumed = 0;
+    private int maxBatch = 0;
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    public GameEvents(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        mask = size - 1;
+        types = new byte[size];
+        subjects = new int[size];
+        values = new int[size];
+    }
+
+    /**
+     * Appends an event; producer thread only
+     * @return false if the buffer was full and the event was dropped
+     */
+    public boolean publish(int type, int subject, int value) {
+        long write = writeIndex;
+        if (write - readIndex > mask) {
+            dropped++;
+            return false;
+        }
+        int slot = (int) write & mask;
+        types[slot] = (byte) type;
+        subjects[slot] = subject;
+        values[slot] = value;
+        writeIndex = write + 1;
+        published[type]++;
+        return true;
+    }
+
+    /**
+     * Hands every published event to the handler in order; consumer thread only.
+     * A null handler discards them.
+     * @return number of events drained
+     */
+    public int drain(Handler handler) {
+        long read = readIndex;
+        long write = writeIndex;
+        int batch = (int) (write - read);
+        if (batch == 0) {
+            return 0;
+        }
+        for (; read < write; read++) {
+            int slot = (int) read & mask;
+            if (handler != null) {
+                handler.onEvent(types[slot], subjects[slot], values[slot]);
+            }
+        }
+        readIndex = read;
+        drains++;
+        consumed += batch;
+        maxBatch = Math.max(maxBatch, batch);
+        return batch;
+    }
+
+    public String getStatistics() {
+        StringBuilder counts = new StringBuilder();
+        for (int type = 0; type < NAMES.length; type++) {
+            counts.append(type == 0 ? "" : ", ").append(NAMES[type]).append('=').append(published[type]);
+        }
+        return String.format("%s; consumed=%d in %d batches (max %d), dropped=%d",
+                counts, consumed, drains, maxBatch, dropped);
+    }
+
+    // Getters
+    public int getCapacity() { return mask + 1; }
+    public int size() { return (int) (writeIndex - readIndex); }
+    public long getPublished(int type) { return published[type]; }
+    public long getDropped() { return dropped; }
+}
@@ -0,0 +1,129 @@
+// GameLoop.java
+package duckhunt;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Pulse-driven game loop with a fixed simulation step.
+ * Real elapsed time is collected in an accumulator and consumed in whole
+ * steps, so game speed does not depend on the display refresh rate. Long
+ * hitches are clamped and the number of catch-up steps per pulse is capped,
+ * which keeps a slow frame from snowballing into ever slower frames.
+ */
+public class GameLoop extends AnimationTimer {
+    // Matches the 16 ms keyframe the game speeds were tuned against
+    public static final long STEP_NANOS = 16_000_000L;
+    public static final int MAX_STEPS_PER_PULSE = 5;
+    public static final long MAX_PULSE_NANOS = 250_000_000L;
+
+    /**
+     * Receives simulation steps and render calls from the loop
+     */
+    public interface Listener {
+        /** Advances the simulation by exactly one fixed step */
+        void step();
+
+        /** Draws the current state; alpha is the fraction of a step since the last one */
+        void render(double alpha);
+    }
+
+    private final Listener listener;
+    private FrameStats frameStats;
+    private QualityGovernor governor;
+    private long lastPulse = -1;
+    private long accumulator = 0;
+    private boolean running = false;
+
+    // Statistics
+    private long steps = 0;
+    private long pulses = 0;
+    private long droppedNanos = 0;
+
+    public GameLoop(Listener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void start() {
+        lastPulse = -1;
+        accumulator = 0;
+        running = true;
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        super.stop();
+    }
+
+    @Override
+    public void handle(long now) {
+        if (lastPulse < 0) {
+            lastPulse = now;
+            listener.render(0);
+            return;
+        }
+
+        long elapsed = now - lastPulse;
+        lastPulse = now;
+        pulses++;
+        if (frameStats != null) {
+            frameStats.endFrame(elapsed);
+        }
+
+        // Clamp hitches such as window drags or GC pauses
+        if (elapsed > MAX_PULSE_NANOS) {
+            droppedNanos += elapsed - MAX_PULSE_NANOS;
+            elapsed = MAX_PULSE_NANOS;
+        }
+        accumulator += elapsed;
+
+        long loopStart = System.nanoTime();
+        int stepsThisPulse = 0;
+        while (running && accumulator >= STEP_NANOS && stepsThisPulse < MAX_STEPS_PER_PULSE) {
+            long stepStart = System.nanoTime();
+            listener.step();
+            if (frameStats != null) {
+                frameStats.add(FrameStats.STEP, System.nanoTime() - stepStart);
+            }
+            accumulator -= STEP_NANOS;
+            stepsThisPulse++;
+            steps++;
+        }
+
+        // Still behind after the catch-up limit: drop whole steps instead of spiralling
+        if (accumulator >= STEP_NANOS) {
+            long dropped = accumulator - accumulator % STEP_NANOS;
+            droppedNanos += dropped;
+            accumulator -= dropped;
+        }
+
+        if (running) {
+            long renderStart = System.nanoTime();
+            listener.render(accumulator / (double) STEP_NANOS);
+            if (frameStats != null) {
+                frameStats.add(FrameStats.RENDER, System.nanoTime() - renderStart);
+            }
+        }
+        if (governor != null) {
+            governor.endFrame(elapsed, System.nanoTime() - loopStart);
+        }
+    }
+
+    /**
+     * Records frame intervals and step/render time into the given stats; null disables it
+     */
+    public void setFrameStats(FrameStats frameStats) { this.frameStats = frameStats; }
+
+    /**
+     * Judges every pulse against the governor's budget; null disables it
+     */
+    public void setQualityGovernor(QualityGovernor governor) { this.governor = governor; }
+
+    // Statistics
+    public long getSteps() { return steps; }
+    public long getPulses() { return pulses; }
+    public double getDroppedMillis() { return droppedNanos / 1_000_000.0; }
+    public boolean isRunning() { return running; }
+}
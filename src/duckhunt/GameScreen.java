@@ -0,0 +1,150 @@
+// GameScreen.java
+package duckhunt;
+
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+
+/**
+ * Long-lived playfield made of four stacked layers: background, actors,
+ * foreground and HUD. The nodes are built once and reset in place between
+ * levels, so a level transition only clears the actor layer, updates two
+ * texts and swaps images when the selected background changed. The HUD and
+ * the end-of-level messages are BitmapTexts, so a changing number redraws
+ * only its own glyphs.
+ */
+public class GameScreen {
+    // Arial bold sizes of the end-of-level messages
+    public static final double MESSAGE_FONT_SIZE = 32 * GameConstants.SCALE / 3;
+    public static final double SMALL_MESSAGE_FONT_SIZE = 24 * GameConstants.SCALE / 3;
+
+    private final Pane root = new Pane();
+    private final Pane backgroundLayer = new Pane();
+    private final Pane actorLayer = new Pane();
+    private final Pane foregroundLayer = new Pane();
+    private final Pane hudLayer = new Pane();
+    private final Pane messageLayer = new Pane();
+
+    private final ImageView background = new ImageView();
+    private final ImageView foreground = new ImageView();
+    private final CanvasRenderer canvasRenderer;
+    private final FramebufferRenderer framebufferRenderer;
+    private final BitmapText levelText;
+    private final BitmapText ammoText;
+    // One message block reused for every level ending
+    private final BitmapText messageText;
+    // Reused to build the HUD strings without allocating
+    private final StringBuilder text = new StringBuilder(32);
+    private int shownBackground = -1;
+
+    public GameScreen(Node performanceOverlay) {
+        // Canvas and framebuffer backends paint background, ducks and foreground into a single node
+        canvasRenderer = GameConstants.CANVAS_RENDERER ? new CanvasRenderer(null, null) : null;
+        framebufferRenderer = GameConstants.FRAMEBUFFER_RENDERER && canvasRenderer == null
+                ? new FramebufferRenderer() : null;
+        if (canvasRenderer != null) {
+            backgroundLayer.getChildren().add(canvasRenderer.getCanvas());
+        } else if (framebufferRenderer != null) {
+            backgroundLayer.getChildren().add(framebufferRenderer.getView());
+        } else {
+            background.setFitWidth(GameConstants.WINDOW_WIDTH);
+            background.setFitHeight(GameConstants.WINDOW_HEIGHT);
+            foreground.setFitWidth(GameConstants.WINDOW_WIDTH);
+            foreground.setFitHeight(GameConstants.WINDOW_HEIGHT);
+            backgroundLayer.getChildren().add(background);
+            foregroundLayer.getChildren().add(foreground);
+        }
+
+        // "Level X/Y" centered top, "Ammo Left: Z" right corner
+        BitmapFont levelFont = BitmapFont.get(24 * GameConstants.SCALE / 3);
+        levelText = new BitmapText(levelFont, Color.ORANGE, levelFont.measure("Level 00/00"),
+                levelFont.getLineHeight());
+        levelText.getView().setLayoutX(GameConstants.WINDOW_WIDTH / 2 - 50 * GameConstants.SCALE / 3);
+        levelText.getView().setLayoutY(20 * GameConstants.SCALE / 3);
+
+        BitmapFont ammoFont = BitmapFont.get(20 * GameConstants.SCALE / 3);
+        ammoText = new BitmapText(ammoFont, Color.ORANGE, ammoFont.measure("Ammo Left: 000000"),
+                ammoFont.getLineHeight());
+        ammoText.getView().setLayoutX(GameConstants.WINDOW_WIDTH - 200 * GameConstants.SCALE / 3);
+        ammoText.getView().setLayoutY(20 * GameConstants.SCALE / 3);
+
+        // Both message sizes are rasterized now, so a level ending never waits for a glyph sheet.
+        // The block holds three lines of the larger one, from the messages' left edge to the window's
+        BitmapFont messageFont = BitmapFont.get(MESSAGE_FONT_SIZE);
+        BitmapFont.get(SMALL_MESSAGE_FONT_SIZE);
+        messageText = new BitmapText(messageFont, Color.YELLOW,
+                (int) (GameConstants.WINDOW_WIDTH / 2 + 200 * GameConstants.SCALE / 3),
+                3 * messageFont.getLineHeight());
+
+        // Frame-time HUD sits with the level and ammo texts; F3 toggles it
+        hudLayer.getChildren().addAll(levelText.getView(), ammoText.getView(), performanceOverlay, messageLayer);
+
+        // Shots are handled on the scene, so the layers never need to be picked
+        for (Pane layer : new Pane[] {backgroundLayer, actorLayer, foregroundLayer, hudLayer}) {
+            layer.setMouseTransparent(true);
+        }
+        root.getChildren().addAll(backgroundLayer, actorLayer, foregroundLayer, hudLayer);
+    }
+
+    /**
+     * Shows the given background/foreground pair; does nothing if it is already shown
+     */
+    public void setBackground(int selectedBackground) {
+        if (selectedBackground == shownBackground) {
+            return;
+        }
+        shownBackground = selectedBackground;
+
+        Image back = Assets.getImage("background/" + selectedBackground);
+        Image front = Assets.getImage("foreground/" + selectedBackground);
+        if (canvasRenderer != null) {
+            canvasRenderer.setLayers(back, front);
+        } else if (framebufferRenderer != null) {
+            framebufferRenderer.setLayers(back, front);
+        } else {
+            background.setImage(back);
+            foreground.setImage(front);
+        }
+    }
+
+    /**
+     * Prepares the layers for a new level: removes the previous ducks and
+     * end-of-level message and shows the level number
+     */
+    public void reset(int level) {
+        actorLayer.getChildren().clear();
+        messageLayer.getChildren().clear();
+        text.setLength(0);
+        text.append("Level ").append(level).append('/').append(GameConstants.TOTAL_LEVELS);
+        levelText.setText(text);
+    }
+
+    public void setAmmo(int ammoLeft) {
+        text.setLength(0);
+        text.append("Ammo Left: ").append(ammoLeft);
+        ammoText.setText(text);
+    }
+
+    /**
+     * Puts an end-of-level message on top of the HUD until the next reset
+     * @param fontSize Arial bold size, MESSAGE_FONT_SIZE or SMALL_MESSAGE_FONT_SIZE
+     * @return the message, e.g. to blink its lines with setVisibleLines()
+     */
+    public BitmapText showMessage(CharSequence message, double fontSize, Color color, double x, double y) {
+        messageText.setStyle(BitmapFont.get(fontSize), color);
+        messageText.setVisibleLines(Integer.MAX_VALUE);
+        messageText.setText(message);
+        messageText.getView().setLayoutX(x);
+        messageText.getView().setLayoutY(y);
+        messageLayer.getChildren().add(messageText.getView());
+        return messageText;
+    }
+
+    // Getters
+    public Pane getRoot() { return root; }
+    public Pane getActorLayer() { return actorLayer; }
+    public CanvasRenderer getCanvasRenderer() { return canvasRenderer; }
+    public FramebufferRenderer getFramebufferRenderer() { return framebufferRenderer; }
+}
@@ -0,0 +1,266 @@
+// GameSimulation.java
+package duckhunt;
+
+import java.util.Random;
+
+/**
+ * Toolkit-free game rules: duck spawning and movement, ammo, level
+ * progression and the PLAYING / LEVEL_COMPLETED / GAME_OVER / GAME_COMPLETED
+ * transitions. Nothing here touches JavaFX, so the same rules run in the game
+ * and in the headless runner.
+ *
+ * Every level start draws from its own Random derived from the session seed
+ * and the number of levels started so far, so a seed plus the tick-stamped
+ * input reproduces a session exactly, even when a level was planned ahead on
+ * another thread.
+ *
+ * Everything that happens (shots, hits, landings, ammo and level changes)
+ * is also published to a GameEvents buffer for sounds and effects to consume.
+ * The buffer may drop events under overload, so ammo and state are read
+ * from getAmmoLeft() and getState().
+ */
+public class GameSimulation {
+    public static final int EVENT_CAPACITY = 4096;
+
+    private final DuckWorld world = new DuckWorld(16);
+    private final GameEvents events = new GameEvents(EVENT_CAPACITY);
+    private final long seed;
+    private long levelStarts = 0;
+    private GameState state = GameState.TITLE;
+    private int currentLevel = 1;
+    private int ammoLeft = 0;
+    private long tickCount = 0;
+    private int[] hits = new int[16];
+    private int hitCount = 0;
+
+    public GameSimulation() {
+        this(new Random().nextLong());
+    }
+
+    public GameSimulation(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Number of ducks in a level; flock mode overrides the normal progression
+     */
+    public static int duckCountForLevel(int level) {
+        return GameConstants.FLOCK_SIZE > 0 ? GameConstants.FLOCK_SIZE : Math.min(level, 3);
+    }
+
+    /**
+     * Spawns the ducks for the current level and hands out 3 shots per duck
+     */
+    public void startLevel() {
+        startLevel(duckCountForLevel(currentLevel));
+    }
+
+    /**
+     * Starts the current level with an explicit number of ducks
+     */
+    public void startLevel(int duckCount) {
+        startLevel(planLevel(currentLevel, duckCount));
+    }
+
+    /**
+     * Rolls colors, start positions and directions for the next level start
+     * without touching the world, so it can be planned on another thread while
+     * the current level is still on screen
+     * Cycles through 6 movement directions: left, right and the four diagonals
+     */
+    public LevelPlan planLevel(int level, int duckCount) {
+        LevelPlan plan = new LevelPlan(level, duckCount, levelStarts);
+        Random random = new Random(seed ^ (levelStarts + 1) * 0x9E3779B97F4A7C15L);
+
+        for (int i = 0; i < duckCount; i++) {
+            plan.color[i] = random.nextInt(GameConstants.DUCK_COLORS.length);
+            plan.x[i] = random.nextDouble() * DuckWorld.MAX_X;
+            plan.y[i] = random.nextDouble() * DuckWorld.MAX_Y;
+
+            switch (i % 6) {
+                case 0: // Left
+                    plan.velocityX[i] = -3 * GameConstants.SCALE;
+                    plan.velocityY[i] = 0;
+                    break;
+                case 1: // Right
+                    plan.velocityX[i] = 3 * GameConstants.SCALE;
+                    plan.velocityY[i] = 0;
+                    break;
+                case 2: // Top-left to bottom-right
+                    plan.velocityX[i] = 2 * GameConstants.SCALE;
+                    plan.velocityY[i] = 2 * GameConstants.SCALE;
+                    break;
+                case 3: // Top-right to bottom-left
+                    plan.velocityX[i] = -2 * GameConstants.SCALE;
+                    plan.velocityY[i] = 2 * GameConstants.SCALE;
+                    break;
+                case 4: // Bottom-left to top-right
+                    plan.velocityX[i] = 2 * GameConstants.SCALE;
+                    plan.velocityY[i] = -2 * GameConstants.SCALE;
+                    break;
+                default: // Bottom-right to top-left
+                    plan.velocityX[i] = -2 * GameConstants.SCALE;
+                    plan.velocityY[i] = -2 * GameConstants.SCALE;
+                    break;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Starts a level from a plan made by planLevel()
+     */
+    public void startLevel(LevelPlan plan) {
+        if (plan.sequence != levelStarts) {
+            // Planned for a different start; roll again so the session stays reproducible
+            plan = planLevel(plan.level, plan.duckCount);
+        }
+        levelStarts++;
+        int duckCount = plan.duckCount;
+        currentLevel = plan.level;
+        ammoLeft = duckCount * 3;
+        world.clear();
+
+        for (int i = 0; i < duckCount; i++) {
+            world.spawn(plan.color[i], plan.x[i], plan.y[i], plan.velocityX[i], plan.velocityY[i]);
+        }
+
+        if (hits.length < duckCount) {
+            hits = new int[duckCount];
+        }
+        state = GameState.PLAYING;
+        events.publish(GameEvents.LEVEL_STARTED, duckCount, currentLevel);
+        events.publish(GameEvents.AMMO_CHANGED, -1, ammoLeft);
+    }
+
+    /**
+     * Spawn parameters for every duck of one level
+     */
+    public static final class LevelPlan {
+        final int level;
+        final int duckCount;
+        final long sequence;
+        final int[] color;
+        final double[] x, y;
+        final double[] velocityX, velocityY;
+
+        LevelPlan(int level, int duckCount, long sequence) {
+            this.level = level;
+            this.duckCount = duckCount;
+            this.sequence = sequence;
+            color = new int[duckCount];
+            x = new double[duckCount];
+            y = new double[duckCount];
+            velocityX = new double[duckCount];
+            velocityY = new double[duckCount];
+        }
+
+        public int getLevel() { return level; }
+        public int getDuckCount() { return duckCount; }
+    }
+
+    /**
+     * Advances to the next level after LEVEL_COMPLETED
+     */
+    public void nextLevel() {
+        currentLevel++;
+        startLevel();
+    }
+
+    /**
+     * Starts over from level 1 after GAME_OVER or GAME_COMPLETED
+     */
+    public void restart() {
+        currentLevel = 1;
+        startLevel();
+    }
+
+    /**
+     * Runs one fixed simulation step and applies the end-of-level rules
+     * Once the level is over only shot ducks keep moving, so they finish falling
+     */
+    public void tick() {
+        tickCount++;
+        if (state != GameState.PLAYING) {
+            world.settle();
+            publishLandings();
+            return;
+        }
+
+        world.tick();
+        publishLandings();
+
+        if (world.getLiveCount() == 0) {
+            if (currentLevel >= GameConstants.TOTAL_LEVELS) {
+                state = GameState.GAME_COMPLETED;
+                events.publish(GameEvents.GAME_COMPLETED, -1, currentLevel);
+            } else {
+                state = GameState.LEVEL_COMPLETED;
+                events.publish(GameEvents.LEVEL_COMPLETED, -1, currentLevel);
+            }
+        } else if (ammoLeft <= 0) {
+            state = GameState.GAME_OVER;
+            events.publish(GameEvents.GAME_OVER, -1, currentLevel);
+        }
+    }
+
+    private void publishLandings() {
+        for (int n = 0; n < world.getLandedCount(); n++) {
+            events.publish(GameEvents.DUCK_LANDED, world.getLanded(n), 0);
+        }
+    }
+
+    /**
+     * Fires one shot; every flying duck under the point is shot down
+     * @return number of ducks hit, or -1 if no shot could be fired
+     */
+    public int shoot(double x, double y) {
+        return shoot(x, y, 0);
+    }
+
+    /**
+     * Fires one shot against the ducks as they were rewindTicks ago, i.e. the
+     * frame the player saw when pulling the trigger (see DuckWorld.hitTest)
+     * @return number of ducks hit, or -1 if no shot could be fired
+     */
+    public int shoot(double x, double y, double rewindTicks) {
+        hitCount = 0;
+        if (state != GameState.PLAYING || ammoLeft <= 0) {
+            return -1;
+        }
+
+        ammoLeft--;
+        hitCount = world.hitTest(x, y, rewindTicks, hits);
+        events.publish(GameEvents.SHOT_FIRED, -1, hitCount);
+        for (int h = 0; h < hitCount; h++) {
+            world.kill(hits[h]);
+            events.publish(GameEvents.DUCK_HIT, hits[h], 0);
+        }
+        events.publish(GameEvents.AMMO_CHANGED, -1, ammoLeft);
+        return hitCount;
+    }
+
+    /**
+     * Index of the n-th duck hit by the last shot
+     */
+    public int getHit(int n) {
+        return hits[n];
+    }
+
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    // Getters and Setters
+    public DuckWorld getWorld() { return world; }
+    public GameEvents getEvents() { return events; }
+    public GameState getState() { return state; }
+    public void setState(GameState state) { this.state = state; }
+    public int getCurrentLevel() { return currentLevel; }
+    public void setCurrentLevel(int level) { this.currentLevel = level; }
+    public int getAmmoLeft() { return ammoLeft; }
+    public void setAmmoLeft(int ammo) { this.ammoLeft = ammo; }
+    public long getTickCount() { return tickCount; }
+    public long getSeed() { return seed; }
+    public long getLevelStarts() { return levelStarts; }
+}
@@ -1,4 +1,6 @@
 // GameState.java
+package duckhunt;
+
 /**
  * Enumeration of all possible game states
  */
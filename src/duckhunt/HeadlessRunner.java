@@ -0,0 +1,89 @@
+// HeadlessRunner.java
+package duckhunt;
+
+import java.util.Random;
+
+/**
+ * Runs the game rules without JavaFX as fast as the CPU allows.
+ * A simple bot fires at flying ducks so levels complete and fail like in real
+ * play; the runner restarts after GAME_OVER / GAME_COMPLETED and reports
+ * ticks per second at the end.
+ *
+ * Usage: java HeadlessRunner [ticks] [seed] [accuracy 0-1]
+ */
+public class HeadlessRunner {
+    // The bot pulls the trigger every this many ticks
+    private static final int SHOT_INTERVAL = 20;
+
+    public static void main(String[] args) {
+        long ticks = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+        double accuracy = args.length > 2 ? Double.parseDouble(args[2]) : 0.5;
+
+        GameSimulation simulation = new GameSimulation(seed);
+        Random bot = new Random(seed ^ 0x5DEECE66DL);
+        simulation.startLevel();
+
+        long shots = 0, hits = 0, levelsCompleted = 0, gamesOver = 0, gamesCompleted = 0;
+        long start = System.nanoTime();
+
+        for (long t = 0; t < ticks; t++) {
+            simulation.tick();
+            // Nothing listens headless; draining keeps the event buffer from filling up
+            simulation.getEvents().drain(null);
+
+            switch (simulation.getState()) {
+                case PLAYING:
+                    if (t % SHOT_INTERVAL == 0) {
+                        int result = fire(simulation, bot, accuracy);
+                        if (result >= 0) {
+                            shots++;
+                            hits += result;
+                        }
+                    }
+                    break;
+                case LEVEL_COMPLETED:
+                    levelsCompleted++;
+                    simulation.nextLevel();
+                    break;
+                case GAME_COMPLETED:
+                    levelsCompleted++;
+                    gamesCompleted++;
+                    simulation.restart();
+                    break;
+                case GAME_OVER:
+                    gamesOver++;
+                    simulation.restart();
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.printf("Ticks: %d in %.3f s (%.0f ticks/sec)%n", ticks, seconds, ticks / seconds);
+        System.out.printf("Shots: %d, hits: %d, levels completed: %d, games over: %d, games completed: %d%n",
+                shots, hits, levelsCompleted, gamesOver, gamesCompleted);
+        System.out.println("Simulation: " + simulation.getWorld().getStatistics());
+        System.out.println("Events: " + simulation.getEvents().getStatistics());
+    }
+
+    /**
+     * Aims at the center of a random flying duck, or at a random point on a miss
+     */
+    private static int fire(GameSimulation simulation, Random bot, double accuracy) {
+        DuckWorld world = simulation.getWorld();
+        if (bot.nextDouble() < accuracy && world.getLiveCount() > 0) {
+            int target = bot.nextInt(world.getCount());
+            for (int n = 0; n < world.getCount(); n++) {
+                int i = (target + n) % world.getCount();
+                if (world.isAlive(i)) {
+                    return simulation.shoot(world.getX(i) + DuckWorld.DUCK_SIZE / 2,
+                            world.getY(i) + DuckWorld.DUCK_SIZE / 2);
+                }
+            }
+        }
+        return simulation.shoot(bot.nextDouble() * GameConstants.WINDOW_WIDTH,
+                bot.nextDouble() * GameConstants.WINDOW_HEIGHT);
+    }
+}
@@ -0,0 +1,160 @@
+// HitMasks.java
+package duckhunt;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Collision masks for the duck sprites, built once from the PNG alpha
+ * channels so a shot in a transparent corner of the bounding box misses.
+ *
+ * Every color and frame gets four variants (plain, mirrored horizontally,
+ * mirrored vertically, both) matching the scaleX/scaleY flips used to draw
+ * it. A mask keeps the sprite's native resolution, one bit per pixel, packed
+ * row by row into a single long array shared by all masks, so a lookup is a
+ * few multiplications and one array read. The pixels come from
+ * Assets.getPixels(), the same atlas or loose files the sprites are drawn
+ * from, decoded without JavaFX so the headless simulation uses the masks too.
+ */
+public final class HitMasks {
+    public static final int VARIANTS = 4;
+    // Pixels at least this opaque can be hit
+    private static final int ALPHA_THRESHOLD = 128;
+
+    private static volatile HitMasks duckMasks;
+
+    private final int frameCount;
+    // Per mask, indexed by mask(): native size and offset of its first bit in bits
+    private final int[] width, height, offset;
+    private final long[] bits;
+    private final int bitCount;
+    private final double boxSize;
+
+    /**
+     * @param sprites ARGB pixels per color and frame
+     */
+    private HitMasks(int[][][] sprites, int[][] widths, double boxSize) {
+        int colorCount = sprites.length;
+        frameCount = sprites[0].length;
+        this.boxSize = boxSize;
+        int maskCount = colorCount * frameCount * VARIANTS;
+        width = new int[maskCount];
+        height = new int[maskCount];
+        offset = new int[maskCount];
+
+        int total = 0;
+        for (int c = 0; c < colorCount; c++) {
+            for (int f = 0; f < frameCount; f++) {
+                for (int v = 0; v < VARIANTS; v++) {
+                    int m = mask(c, f + 1, v);
+                    offset[m] = total;
+                    width[m] = widths[c][f];
+                    height[m] = sprites[c][f].length / widths[c][f];
+                    total += width[m] * height[m];
+                }
+            }
+        }
+
+        bitCount = total;
+        bits = new long[(total + 63) >>> 6];
+        for (int c = 0; c < colorCount; c++) {
+            for (int f = 0; f < frameCount; f++) {
+                for (int v = 0; v < VARIANTS; v++) {
+                    rasterize(sprites[c][f], mask(c, f + 1, v), (v & 1) != 0, (v & 2) != 0);
+                }
+            }
+        }
+    }
+
+    private void rasterize(int[] argb, int m, boolean flipX, boolean flipY) {
+        int w = width[m];
+        int h = height[m];
+        for (int row = 0; row < h; row++) {
+            for (int column = 0; column < w; column++) {
+                int sourceX = flipX ? w - 1 - column : column;
+                int sourceY = flipY ? h - 1 - row : row;
+                if ((argb[sourceY * w + sourceX] >>> 24) >= ALPHA_THRESHOLD) {
+                    int bit = offset[m] + row * w + column;
+                    bits[bit >>> 6] |= 1L << bit;
+                }
+            }
+        }
+    }
+
+    /**
+     * Masks for every duck color and frame, built on first use from the
+     * native-size sprites in Assets
+     * @throws IllegalStateException if a sprite is missing; hits would silently
+     *         fall back to bounding boxes otherwise (use -Dduckhunt.boxHits=true for that)
+     */
+    public static HitMasks getDuckMasks() {
+        HitMasks masks = duckMasks;
+        if (masks == null) {
+            masks = loadDuckMasks();
+        }
+        return masks;
+    }
+
+    private static synchronized HitMasks loadDuckMasks() {
+        if (duckMasks == null) {
+            long start = System.nanoTime();
+            String[] colors = GameConstants.DUCK_COLORS;
+            int[][][] sprites = new int[colors.length][SpriteCache.FRAME_COUNT][];
+            int[][] widths = new int[colors.length][SpriteCache.FRAME_COUNT];
+            for (int c = 0; c < colors.length; c++) {
+                for (int f = 0; f < SpriteCache.FRAME_COUNT; f++) {
+                    String name = "duck_" + colors[c] + "/" + (f + 1);
+                    BufferedImage image = Assets.getPixels(name);
+                    if (image == null) {
+                        throw new IllegalStateException("Cannot build the hit mask for " + name
+                                + ": sprite not found; run with -Dduckhunt.boxHits=true to test bounding boxes");
+                    }
+                    int w = image.getWidth();
+                    int h = image.getHeight();
+                    sprites[c][f] = image.getRGB(0, 0, w, h, null, 0, w);
+                    widths[c][f] = w;
+                }
+            }
+            duckMasks = new HitMasks(sprites, widths, DuckWorld.DUCK_SIZE);
+            System.out.printf("Hit masks built: %s in %.2f ms%n", duckMasks.getStatistics(),
+                    (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return duckMasks;
+    }
+
+    /**
+     * Index of the mask for a color, a 1-based sprite frame and the mirroring it is drawn with
+     */
+    public int mask(int colorIndex, int frame, int variant) {
+        return (colorIndex * frameCount + frame - 1) * VARIANTS + variant;
+    }
+
+    /**
+     * Mirror variant for the scale factors a sprite is drawn with
+     */
+    public static int variant(double scaleX, double scaleY) {
+        return (scaleX < 0 ? 1 : 0) | (scaleY < 0 ? 2 : 0);
+    }
+
+    /**
+     * Whether a point inside the sprite's on-screen box, given relative to its
+     * top-left corner, lands on an opaque pixel. The sprite is stretched over
+     * the whole box, as the views and the canvas draw it.
+     */
+    public boolean isOpaque(int m, double offsetX, double offsetY) {
+        int w = width[m];
+        int h = height[m];
+        int column = Math.min(w - 1, (int) (offsetX * w / boxSize));
+        int row = Math.min(h - 1, (int) (offsetY * h / boxSize));
+        int bit = offset[m] + row * w + column;
+        return (bits[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    public String getStatistics() {
+        int opaque = 0;
+        for (long word : bits) {
+            opaque += Long.bitCount(word);
+        }
+        return String.format("%d masks, %d bytes, %.0f%% opaque", width.length, bits.length * 8L,
+                100.0 * opaque / Math.max(1, bitCount));
+    }
+}
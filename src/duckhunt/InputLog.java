@@ -0,0 +1,147 @@
+// InputLog.java
+package duckhunt;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a session recorded by InputRecorder.
+ *
+ * Log layout (big-endian):
+ *   int magic 'DHIN', short version, long seed, int flockSize,
+ *   events until END or end of file:
+ *     byte type, varint tickDelta, byte gameState,
+ *     KEY:  byte key (index into KEYS)
+ *     SHOT: double x, double y (exact, so hit tests replay identically),
+ *           double rewind (ticks of lag compensation; version 2 and later)
+ *
+ * Ticks count GameSimulation steps, so the log is independent of frame rate
+ * and can be replayed at any speed.
+ */
+public class InputLog {
+    public static final int MAGIC = 0x4448494E; // "DHIN"
+    public static final short VERSION = 2;
+
+    // Event types
+    public static final byte END = 0;
+    public static final byte KEY = 1;
+    public static final byte SHOT = 2;
+
+    // Keys the game reacts to, by their JavaFX KeyCode names
+    public static final String[] KEYS = {"ENTER", "ESCAPE", "LEFT", "RIGHT", "UP", "DOWN"};
+
+    /**
+     * One recorded input and the simulation tick it happened after
+     */
+    public static class Event {
+        final byte type;
+        final long tick;
+        final GameState state;
+        final String key;
+        final double x, y;
+        final double rewind;
+
+        Event(byte type, long tick, GameState state, String key, double x, double y, double rewind) {
+            this.type = type;
+            this.tick = tick;
+            this.state = state;
+            this.key = key;
+            this.x = x;
+            this.y = y;
+            this.rewind = rewind;
+        }
+
+        public byte getType() { return type; }
+        public long getTick() { return tick; }
+        public GameState getState() { return state; }
+        public String getKey() { return key; }
+        public double getX() { return x; }
+        public double getY() { return y; }
+        public double getRewind() { return rewind; }
+    }
+
+    private final long seed;
+    private final int flockSize;
+    private final List<Event> events = new ArrayList<>();
+
+    private InputLog(long seed, int flockSize) {
+        this.seed = seed;
+        this.flockSize = flockSize;
+    }
+
+    /**
+     * Reads a whole log; a truncated tail (e.g. after a crash) is dropped silently
+     */
+    public static InputLog load(String path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(path)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not an input log: " + path);
+            }
+            short version = in.readShort();
+            if (version < 1 || version > VERSION) {
+                throw new IOException("Unsupported input log version " + version + " in " + path);
+            }
+
+            InputLog log = new InputLog(in.readLong(), in.readInt());
+            GameState[] states = GameState.values();
+            long tick = 0;
+            try {
+                while (true) {
+                    byte type = in.readByte();
+                    if (type == END) {
+                        break;
+                    }
+                    tick += readVarLong(in);
+                    GameState state = states[in.readByte()];
+                    if (type == KEY) {
+                        log.events.add(new Event(type, tick, state, KEYS[in.readByte()], 0, 0, 0));
+                    } else if (type == SHOT) {
+                        double x = in.readDouble();
+                        double y = in.readDouble();
+                        double rewind = version >= 2 ? in.readDouble() : 0;
+                        log.events.add(new Event(type, tick, state, null, x, y, rewind));
+                    } else {
+                        throw new IOException("Unknown event type " + type + " in " + path);
+                    }
+                }
+            } catch (EOFException e) {
+                // Recording was not closed cleanly; keep what was written
+            }
+            return log;
+        }
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Index of a key in KEYS, or -1 if the game ignores it
+     */
+    public static int keyIndex(String key) {
+        for (int i = 0; i < KEYS.length; i++) {
+            if (KEYS[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Getters
+    public long getSeed() { return seed; }
+    public int getFlockSize() { return flockSize; }
+    public List<Event> getEvents() { return events; }
+    public long getLastTick() { return events.isEmpty() ? 0 : events.get(events.size() - 1).tick; }
+}
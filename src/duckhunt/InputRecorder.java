@@ -0,0 +1,104 @@
+// InputRecorder.java
+package duckhunt;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Streams the session seed and every game-relevant input into a compact
+ * binary log readable by InputLog. Inputs are stamped with the simulation
+ * tick they arrived after. Ticks are stored as variable-length deltas, so a
+ * key press takes 4 bytes and a shot 27.
+ */
+public class InputRecorder {
+    private final DataOutputStream out;
+    private long lastTick = 0;
+    private long events = 0;
+    private boolean failed = false;
+
+    public InputRecorder(String path, long seed) throws IOException {
+        out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)));
+        out.writeInt(InputLog.MAGIC);
+        out.writeShort(InputLog.VERSION);
+        out.writeLong(seed);
+        out.writeInt(GameConstants.FLOCK_SIZE);
+        out.flush();
+    }
+
+    /**
+     * Records a key press; keys the game ignores are skipped
+     */
+    public void recordKey(long tick, GameState state, String key) {
+        int index = InputLog.keyIndex(key);
+        if (index < 0) {
+            return;
+        }
+        try {
+            writeHeader(InputLog.KEY, tick, state);
+            out.writeByte(index);
+            // Key presses change levels, so a crash after one still leaves a usable log
+            out.flush();
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Records a fired shot at window coordinates and how far it was rewound
+     */
+    public void recordShot(long tick, GameState state, double x, double y, double rewind) {
+        try {
+            writeHeader(InputLog.SHOT, tick, state);
+            out.writeDouble(x);
+            out.writeDouble(y);
+            out.writeDouble(rewind);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private void writeHeader(byte type, long tick, GameState state) throws IOException {
+        if (failed) {
+            throw new IOException("recorder already failed");
+        }
+        out.writeByte(type);
+        writeVarLong(tick - lastTick);
+        out.writeByte(state.ordinal());
+        lastTick = tick;
+        events++;
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private void fail(IOException e) {
+        if (!failed) {
+            failed = true;
+            System.err.println("Input recording stopped: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the end marker and closes the file
+     */
+    public void close() {
+        try {
+            if (!failed) {
+                out.writeByte(InputLog.END);
+            }
+            out.close();
+            System.out.println("Input recording closed: " + events + " events, " + out.size() + " bytes");
+        } catch (IOException e) {
+            System.err.println("Could not close input recording: " + e.getMessage());
+        }
+    }
+
+    public long getEvents() { return events; }
+}
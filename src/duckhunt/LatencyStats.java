@@ -0,0 +1,45 @@
+// LatencyStats.java
+package duckhunt;
+
+/**
+ * Histogram of one kind of latency, e.g. mouse press to hit resolution.
+ * Samples go into the same TimeHistogram buckets as FrameStats, so recording
+ * and reading percentiles allocate nothing.
+ */
+public class LatencyStats {
+    // 0 - 200 ms; slower samples go to the overflow bucket
+    public static final int BUCKET_COUNT = 2000;
+
+    private final String name;
+    private final TimeHistogram histogram = new TimeHistogram(BUCKET_COUNT);
+
+    public LatencyStats(String name) {
+        this.name = name;
+    }
+
+    public void record(long nanos) {
+        histogram.record(nanos);
+    }
+
+    /**
+     * Latency in milliseconds below which the given fraction of samples fall
+     */
+    public double getPercentileMillis(double fraction) {
+        return histogram.getPercentileMillis(fraction);
+    }
+
+    public void reset() {
+        histogram.reset();
+    }
+
+    public String getStatistics() {
+        return String.format("%s n=%d avg=%.2f ms p99=%.1f ms max=%.2f ms",
+                name, getSamples(), getAverageMillis(), getPercentileMillis(0.99), getMaxMillis());
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public long getSamples() { return histogram.getSamples(); }
+    public double getAverageMillis() { return histogram.getAverageMillis(); }
+    public double getMaxMillis() { return histogram.getMaxMillis(); }
+}
@@ -0,0 +1,232 @@
+// LevelManager.java
+package duckhunt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+
+/**
+ * Manages level creation and progression
+ * Connects the toolkit-free GameSimulation to the duck views and sounds
+ */
+public class LevelManager {
+    private final GameSimulation simulation;
+    private List<Duck> ducks = new ArrayList<>();
+    private final DuckPool duckPool;
+    private DuckRenderState renderState;
+    private AudioManager audioManager;
+    private CompletableFuture<PreparedLevel> preparedLevel;
+    private boolean lastLevelPrepared = false;
+
+    public LevelManager(AudioManager audioManager) {
+        this(audioManager, new GameSimulation());
+    }
+
+    /**
+     * Uses the given simulation, e.g. one seeded from a recorded session
+     */
+    public LevelManager(AudioManager audioManager, GameSimulation simulation) {
+        this.audioManager = audioManager;
+        this.simulation = simulation;
+        this.duckPool = new DuckPool(simulation.getWorld(), audioManager, GameConstants.DUCK_POOL_CAP);
+        this.renderState = simulation.getWorld();
+    }
+
+    /**
+     * Starts the current level in the simulation and creates a view for each duck
+     * Uses the level prepared in the background when it is ready, otherwise builds it here
+     */
+    public void createDucks(Pane gamePane) {
+        PreparedLevel prepared = takePreparedLevel(simulation.getCurrentLevel());
+        lastLevelPrepared = prepared != null;
+        if (prepared == null) {
+            createDucks(GameSimulation.duckCountForLevel(simulation.getCurrentLevel()), gamePane);
+            return;
+        }
+
+        ducks.clear();
+        simulation.startLevel(prepared.plan);
+        addDucks(gamePane, prepared.views, prepared.firstView);
+    }
+
+    /**
+     * Starts the current level with the given number of ducks
+     */
+    public void createDucks(int duckCount, Pane gamePane) {
+        ducks.clear();
+        simulation.startLevel(duckCount);
+        addDucks(gamePane, null, 0);
+    }
+
+    /**
+     * Takes a duck for every spawned index from the pool
+     * @param views views prepared for the ducks from index firstView on, or null
+     */
+    private void addDucks(Pane gamePane, ImageView[] views, int firstView) {
+        DuckWorld world = simulation.getWorld();
+        List<ImageView> nodes = new ArrayList<>(world.getCount());
+        for (int i = 0; i < world.getCount(); i++) {
+            ImageView view = views != null && i >= firstView && i - firstView < views.length
+                    ? views[i - firstView] : null;
+            Duck duck = duckPool.acquire(i, view);
+            duck.setRenderState(renderState);
+            ducks.add(duck);
+            if (duck.getImageView() != null) {
+                nodes.add(duck.getImageView());
+            }
+        }
+        // One bulk insert instead of a change notification per duck
+        gamePane.getChildren().addAll(nodes);
+    }
+
+    /**
+     * Plans the given level and builds the duck views the pool cannot supply on
+     * a pool thread, so createDucks() only has to swap them in. Replaces any
+     * earlier preparation.
+     */
+    public void prepareLevel(int level) {
+        cancelPreparedLevel();
+        int duckCount = GameSimulation.duckCountForLevel(level);
+        // Read on the FX thread; the pool only changes in createDucks()
+        int firstView = Math.min(duckCount, duckPool.size());
+        preparedLevel = CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            GameSimulation.LevelPlan plan = simulation.planLevel(level, duckCount);
+            ImageView[] views = null;
+            if (GameConstants.DUCK_VIEWS) {
+                views = new ImageView[duckCount - firstView];
+                for (int i = 0; i < views.length; i++) {
+                    views[i] = Duck.createImageView();
+                }
+            }
+            return new PreparedLevel(plan, views, firstView, System.nanoTime() - start);
+        });
+    }
+
+    /**
+     * Drops a preparation that is no longer wanted, e.g. after a restart
+     */
+    public void cancelPreparedLevel() {
+        if (preparedLevel != null) {
+            preparedLevel.cancel(false);
+            preparedLevel = null;
+        }
+    }
+
+    /**
+     * Returns the prepared level if it finished and matches; null means build it synchronously
+     */
+    private PreparedLevel takePreparedLevel(int level) {
+        CompletableFuture<PreparedLevel> future = preparedLevel;
+        preparedLevel = null;
+        if (future == null) {
+            return null;
+        }
+        if (!future.isDone()) {
+            future.cancel(false);
+            if (GameConstants.LEVEL_STATISTICS) {
+                System.out.println("Level " + level + " preparation not finished, building synchronously");
+            }
+            return null;
+        }
+        try {
+            PreparedLevel prepared = future.join();
+            if (prepared.plan.getLevel() != level) {
+                return null;
+            }
+            if (GameConstants.LEVEL_STATISTICS) {
+                System.out.printf("Level %d was prepared in the background in %d us%n",
+                        level, prepared.prepareNanos / 1_000);
+            }
+            return prepared;
+        } catch (Exception e) {
+            System.err.println("Level " + level + " preparation failed, building synchronously: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * A level planned and given views off the FX thread
+     */
+    private static final class PreparedLevel {
+        final GameSimulation.LevelPlan plan;
+        final ImageView[] views;
+        final int firstView;
+        final long prepareNanos;
+
+        PreparedLevel(GameSimulation.LevelPlan plan, ImageView[] views, int firstView, long prepareNanos) {
+            this.plan = plan;
+            this.views = views;
+            this.firstView = firstView;
+            this.prepareNanos = prepareNanos;
+        }
+    }
+
+    /**
+     * Updates all ducks and applies the end-of-level rules
+     * Keeps shot ducks falling after the level has ended
+     */
+    public void updateDucks() {
+        simulation.tick();
+    }
+
+    /**
+     * Positions all duck views for the current frame
+     */
+    public void renderDucks(double alpha) {
+        for (int i = 0; i < ducks.size(); i++) {
+            ducks.get(i).render(alpha);
+        }
+    }
+
+    /**
+     * Checks if all ducks are dead
+     */
+    public boolean allDucksDefeated() {
+        return simulation.getWorld().getLiveCount() == 0;
+    }
+
+    /**
+     * Handles shooting at coordinates
+     * A single shot can hit several overlapping ducks
+     */
+    public boolean handleShoot(double x, double y) {
+        return handleShoot(x, y, 0);
+    }
+
+    /**
+     * Handles a shot against the duck positions rewindTicks simulation steps ago
+     * Hit ducks react when the DUCK_HIT events are dispatched
+     */
+    public boolean handleShoot(double x, double y, double rewindTicks) {
+        return simulation.shoot(x, y, rewindTicks) > 0;
+    }
+
+    /**
+     * Lets the view of a duck the simulation just shot react to it
+     */
+    public void duckHit(int index) {
+        if (index < ducks.size()) {
+            ducks.get(index).shoot();
+        }
+    }
+
+    // Getters and Setters
+    public int getCurrentLevel() { return simulation.getCurrentLevel(); }
+    public void setCurrentLevel(int level) { simulation.setCurrentLevel(level); }
+    public int getAmmoLeft() { return simulation.getAmmoLeft(); }
+    public void setAmmoLeft(int ammo) { simulation.setAmmoLeft(ammo); }
+    public GameState getState() { return simulation.getState(); }
+    public List<Duck> getDucks() { return ducks; }
+    public DuckWorld getWorld() { return simulation.getWorld(); }
+    public GameSimulation getSimulation() { return simulation; }
+    public DuckPool getDuckPool() { return duckPool; }
+    public boolean isLastLevelPrepared() { return lastLevelPrepared; }
+
+    /**
+     * Makes the ducks created from now on draw from the given state instead of the world
+     */
+    public void setRenderState(DuckRenderState renderState) { this.renderState = renderState; }
+}
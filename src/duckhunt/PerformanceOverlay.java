@@ -0,0 +1,136 @@
+// PerformanceOverlay.java
+package duckhunt;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+/**
+ * Toggleable HUD showing FPS, frame-time percentiles, GC activity, input
+ * latency and a per-phase breakdown of the frame. The text is rebuilt a few times per
+ * second rather than every frame, so the overlay itself stays cheap.
+ */
+public class PerformanceOverlay {
+
+    private final FrameStats frameStats;
+    private final LatencyStats[] latencies;
+    private final Label label = new Label();
+    private final StringBuilder text = new StringBuilder(512);
+    private QualityGovernor governor;
+    private long lastRefresh = 0;
+    private long gcCountBaseline = 0;
+    private long gcMillisBaseline = 0;
+    private long layoutStart = 0;
+
+    public PerformanceOverlay(FrameStats frameStats, LatencyStats... latencies) {
+        this.frameStats = frameStats;
+        this.latencies = latencies;
+        label.setFont(Font.font("Monospaced", 12 * GameConstants.SCALE / 3));
+        label.setTextFill(Color.LIME);
+        label.setStyle("-fx-background-color: rgba(0, 0, 0, 0.6); -fx-padding: 4;");
+        label.setLayoutX(10 * GameConstants.SCALE / 3);
+        label.setLayoutY(60 * GameConstants.SCALE / 3);
+        label.setMouseTransparent(true);
+        label.setVisible(GameConstants.PERFORMANCE_OVERLAY);
+    }
+
+    /**
+     * Times the scene's CSS and layout pass as the layout phase
+     */
+    public void attach(Scene scene) {
+        scene.addPreLayoutPulseListener(() -> layoutStart = System.nanoTime());
+        scene.addPostLayoutPulseListener(() -> {
+            if (layoutStart != 0) {
+                frameStats.add(FrameStats.LAYOUT, System.nanoTime() - layoutStart);
+                layoutStart = 0;
+            }
+        });
+    }
+
+    /**
+     * Shows or hides the overlay
+     */
+    public void toggle() {
+        label.setVisible(!label.isVisible());
+        lastRefresh = 0;
+        if (governor != null) {
+            governor.setHudVisible(label.isVisible());
+        }
+    }
+
+    /**
+     * Clears the histograms and GC baseline, e.g. when a level starts
+     */
+    public void reset() {
+        frameStats.reset();
+        for (LatencyStats latency : latencies) {
+            latency.reset();
+        }
+        gcCountBaseline = getGcCount();
+        gcMillisBaseline = getGcMillis();
+    }
+
+    /**
+     * Rebuilds the text if the overlay is visible and the refresh interval passed
+     */
+    public void refresh(long now) {
+        long interval = governor != null ? governor.getHudRefreshNanos() : 500_000_000L;
+        if (!label.isVisible() || now - lastRefresh < interval) {
+            return;
+        }
+        lastRefresh = now;
+
+        text.setLength(0);
+        text.append(String.format("FPS %5.1f  p50 %5.1f  p99 %5.1f  max %5.1f ms%n",
+                frameStats.getWindowFps(), frameStats.getPercentileMillis(0.50),
+                frameStats.getPercentileMillis(0.99), frameStats.getMaxFrameMillis()));
+        text.append(String.format("GC  %d collections, %d ms%n",
+                getGcCount() - gcCountBaseline, getGcMillis() - gcMillisBaseline));
+        if (governor != null) {
+            text.append("Quality ").append(governor.getLevelName()).append(String.format("%n"));
+        }
+        for (LatencyStats latency : latencies) {
+            text.append(String.format("%-14s avg %5.1f  p99 %5.1f  max %5.1f ms%n", latency.getName(),
+                    latency.getAverageMillis(), latency.getPercentileMillis(0.99), latency.getMaxMillis()));
+        }
+        text.append("phase     avg ms   max ms");
+        for (int phase = 0; phase < FrameStats.PHASE_NAMES.length; phase++) {
+            text.append(String.format("%n%-7s %8.3f %8.3f", FrameStats.PHASE_NAMES[phase],
+                    frameStats.getWindowAverageMillis(phase), frameStats.getWindowMaxMillis(phase)));
+        }
+        label.setText(text.toString());
+        frameStats.resetWindow();
+    }
+
+    private static long getGcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long getGcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    /**
+     * Shows the governor's quality level and follows its HUD refresh rate
+     */
+    public void setQualityGovernor(QualityGovernor governor) {
+        this.governor = governor;
+        governor.setHudVisible(label.isVisible());
+    }
+
+    // Getters
+    public Label getNode() { return label; }
+    public FrameStats getFrameStats() { return frameStats; }
+    public boolean isVisible() { return label.isVisible(); }
+}
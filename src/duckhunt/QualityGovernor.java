@@ -0,0 +1,149 @@
+// QualityGovernor.java
+package duckhunt;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the performance HUD from adding to frames that already run late.
+ * Frames are judged in windows of WINDOW_FRAMES: a window where too many
+ * frames missed the budget or the loop itself was busy for most of it steps
+ * quality down one level, and several windows in a row with plenty of
+ * headroom step it back up.
+ *
+ * The HUD is the only optional work in a frame, so the one reduced level
+ * rebuilds its text every 2 s instead of every 0.5 s, and frames are only
+ * judged while the HUD is shown. This does not hold the target frame rate
+ * on a slow machine; it only keeps the measuring from making it worse.
+ * Gameplay, wing flaps and replays never depend on the level.
+ *
+ * Hysteresis comes from separate thresholds for stepping down and up and
+ * from a per-level wait that doubles whenever quality had to drop again
+ * right after returning to that level. Every change is logged.
+ */
+public class QualityGovernor {
+    public static final String[] LEVEL_NAMES = {"full", "slow HUD"};
+    public static final int WINDOW_FRAMES = 60;
+
+    // A frame this much longer than the budget missed at least one refresh
+    private static final double SLOW_FRAME_FACTOR = 1.5;
+    // Step down when this share of a window was slow, or the loop was this busy on average
+    private static final double DOWNGRADE_SLOW_SHARE = 0.1;
+    private static final double DOWNGRADE_BUSY_SHARE = 0.85;
+    // Step up only without slow frames and below this busy share
+    private static final double UPGRADE_BUSY_SHARE = 0.5;
+    private static final int UPGRADE_WINDOWS = 3;
+    private static final int MAX_UPGRADE_WINDOWS = 48;
+    private static final long HUD_REFRESH_NANOS = 500_000_000L;
+
+    private final long budgetNanos;
+    private final boolean enabled;
+    private int level = 0;
+
+    // Current window
+    private int windowFrames = 0;
+    private int slowFrames = 0;
+    private long busyNanos = 0;
+
+    // Windows with headroom so far, and how many each level needs before returning to it
+    private int headroomWindows = 0;
+    private final int[] upgradeWindows = new int[LEVEL_NAMES.length];
+    private int windowsSinceUpgrade = Integer.MAX_VALUE;
+
+    private long changes = 0;
+    // Nothing can be shed while the HUD is hidden
+    private boolean hudVisible = false;
+
+    public QualityGovernor(int targetFps, boolean enabled) {
+        this.budgetNanos = 1_000_000_000L / Math.max(1, targetFps);
+        this.enabled = enabled;
+        Arrays.fill(upgradeWindows, UPGRADE_WINDOWS);
+    }
+
+    /**
+     * Feeds one frame: the interval since the previous pulse and the time the
+     * loop spent stepping and rendering in it
+     */
+    public void endFrame(long frameNanos, long loopNanos) {
+        if (!enabled || !hudVisible) {
+            return;
+        }
+        windowFrames++;
+        busyNanos += loopNanos;
+        if (frameNanos > budgetNanos * SLOW_FRAME_FACTOR) {
+            slowFrames++;
+        }
+        if (windowFrames < WINDOW_FRAMES) {
+            return;
+        }
+
+        double slowShare = slowFrames / (double) windowFrames;
+        double busyShare = busyNanos / (double) windowFrames / budgetNanos;
+        if (windowsSinceUpgrade < Integer.MAX_VALUE) {
+            windowsSinceUpgrade++;
+        }
+
+        boolean overBudget = slowShare > DOWNGRADE_SLOW_SHARE || busyShare > DOWNGRADE_BUSY_SHARE;
+        if (overBudget && level < LEVEL_NAMES.length - 1) {
+            // Dropping straight after an upgrade means that level is not sustainable yet; wait longer next time
+            if (windowsSinceUpgrade <= 2) {
+                upgradeWindows[level] = Math.min(MAX_UPGRADE_WINDOWS, upgradeWindows[level] * 2);
+            }
+            change(level + 1, slowShare, busyShare);
+        } else if (slowFrames == 0 && busyShare < UPGRADE_BUSY_SHARE && level > 0) {
+            headroomWindows++;
+            if (headroomWindows >= upgradeWindows[level - 1]) {
+                change(level - 1, slowShare, busyShare);
+                windowsSinceUpgrade = 0;
+            }
+        } else {
+            headroomWindows = 0;
+        }
+
+        windowFrames = 0;
+        slowFrames = 0;
+        busyNanos = 0;
+    }
+
+    /**
+     * Judges frames only while the performance HUD is shown; hiding it returns to full quality
+     */
+    public void setHudVisible(boolean visible) {
+        hudVisible = visible;
+        windowFrames = 0;
+        slowFrames = 0;
+        busyNanos = 0;
+        headroomWindows = 0;
+        if (!visible && level > 0) {
+            System.out.printf("Quality %s -> %s: performance HUD hidden%n", LEVEL_NAMES[level], LEVEL_NAMES[0]);
+            level = 0;
+            changes++;
+        }
+    }
+
+    private void change(int newLevel, double slowShare, double busyShare) {
+        System.out.printf("Quality %s -> %s: %.0f%% of frames over %.1f ms, loop busy %.0f%% of the budget%n",
+                LEVEL_NAMES[level], LEVEL_NAMES[newLevel], slowShare * 100,
+                budgetNanos * SLOW_FRAME_FACTOR / 1_000_000.0, busyShare * 100);
+        level = newLevel;
+        headroomWindows = 0;
+        changes++;
+    }
+
+    /**
+     * How often the performance HUD rebuilds its text at the current level
+     */
+    public long getHudRefreshNanos() {
+        return level >= 1 ? HUD_REFRESH_NANOS * 4 : HUD_REFRESH_NANOS;
+    }
+
+    public String getStatistics() {
+        return String.format("level=%s, changes=%d, budget=%.1f ms",
+                LEVEL_NAMES[level], changes, budgetNanos / 1_000_000.0);
+    }
+
+    // Getters
+    public int getLevel() { return level; }
+    public String getLevelName() { return LEVEL_NAMES[level]; }
+    public long getChanges() { return changes; }
+    public boolean isEnabled() { return enabled; }
+}
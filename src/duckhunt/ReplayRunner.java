@@ -0,0 +1,120 @@
+// ReplayRunner.java
+package duckhunt;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Replays a recorded session against the headless simulation, tick by tick.
+ * By default it runs as fast as the CPU allows, which turns real play into a
+ * repeatable performance workload; a speed factor throttles it to a multiple
+ * of real time. Recorded game states are checked against the simulation so a
+ * replay that no longer matches the recording is reported.
+ *
+ * Usage: java ReplayRunner session.dhi [speed, 0 = unthrottled]
+ */
+public class ReplayRunner {
+    // Ticks run after the last input so the final shots can play out
+    private static final int TAIL_TICKS = 125;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage: java ReplayRunner session.dhi [speed]");
+            return;
+        }
+        InputLog log = InputLog.load(args[0]);
+        double speed = args.length > 1 ? Double.parseDouble(args[1]) : 0;
+        if (log.getFlockSize() != GameConstants.FLOCK_SIZE) {
+            System.err.println("Warning: recorded with -Dduckhunt.flock=" + log.getFlockSize()
+                    + ", replaying with " + GameConstants.FLOCK_SIZE);
+        }
+
+        GameSimulation simulation = new GameSimulation(log.getSeed());
+        List<InputLog.Event> events = log.getEvents();
+        long endTick = log.getLastTick() + TAIL_TICKS;
+        // GameLoop.STEP_NANOS is a compile-time constant, so this does not load JavaFX
+        long stepNanos = speed > 0 ? (long) (GameLoop.STEP_NANOS / speed) : 0;
+
+        long shots = 0, hits = 0, desyncs = 0;
+        int next = 0;
+        long start = System.nanoTime();
+
+        while (simulation.getTickCount() < endTick) {
+            // Inputs recorded after this tick, in recorded order
+            while (next < events.size() && events.get(next).getTick() == simulation.getTickCount()) {
+                InputLog.Event event = events.get(next++);
+                if (!matches(simulation, event)) {
+                    desyncs++;
+                    System.err.printf("Desync at tick %d: recorded %s, simulation is %s%n",
+                            event.getTick(), event.getState(), simulation.getState());
+                }
+                int result = apply(simulation, event);
+                if (result >= 0) {
+                    shots++;
+                    hits += result;
+                }
+            }
+
+            simulation.tick();
+            simulation.getEvents().drain(null);
+
+            if (stepNanos > 0) {
+                long due = start + simulation.getTickCount() * stepNanos;
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    Thread.sleep(wait / 1_000_000, (int) (wait % 1_000_000));
+                }
+            }
+        }
+
+        long ticks = simulation.getTickCount();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.printf("Replayed %d events over %d ticks in %.3f s (%.0f ticks/sec, %.1fx real time)%n",
+                events.size(), ticks, seconds, ticks / seconds,
+                ticks * GameLoop.STEP_NANOS / 1_000_000_000.0 / seconds);
+        System.out.printf("Shots: %d, hits: %d, level starts: %d, final level: %d (%s), desyncs: %d%n",
+                shots, hits, simulation.getLevelStarts(), simulation.getCurrentLevel(), simulation.getState(), desyncs);
+        System.out.println("Simulation: " + simulation.getWorld().getStatistics());
+        System.out.println("Events: " + simulation.getEvents().getStatistics());
+    }
+
+    /**
+     * Applies one input the way DuckHunt reacts to it in the recorded state
+     * @return ducks hit for a shot that was fired, -1 otherwise
+     */
+    static int apply(GameSimulation simulation, InputLog.Event event) {
+        if (event.getType() == InputLog.SHOT) {
+            if (event.getState() != GameState.PLAYING) {
+                return -1;
+            }
+            return simulation.shoot(event.getX(), event.getY(), event.getRewind());
+        }
+        if (!"ENTER".equals(event.getKey())) {
+            return -1;
+        }
+        switch (event.getState()) {
+            case BACKGROUND_SELECTION:
+                simulation.startLevel();
+                break;
+            case LEVEL_COMPLETED:
+                simulation.nextLevel();
+                break;
+            case GAME_OVER:
+            case GAME_COMPLETED:
+                simulation.restart();
+                break;
+            default:
+                break;
+        }
+        return -1;
+    }
+
+    /**
+     * Menu states live outside the simulation; every other recorded state must match it
+     */
+    private static boolean matches(GameSimulation simulation, InputLog.Event event) {
+        GameState recorded = event.getState();
+        return recorded == GameState.TITLE || recorded == GameState.BACKGROUND_SELECTION
+                || recorded == simulation.getState();
+    }
+}
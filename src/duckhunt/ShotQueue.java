@@ -0,0 +1,83 @@
+// ShotQueue.java
+package duckhunt;
+
+/**
+ * FIFO of shots fired between simulation steps. A press only stores its
+ * position, timestamp and the world tick on screen at that moment here; the
+ * next step resolves every queued shot in order, so hit-testing always runs
+ * against a whole simulation state. Backed
+ * by primitive ring buffers, so queueing a shot allocates nothing.
+ */
+public class ShotQueue {
+    private double[] x, y;
+    private long[] pressNanos;
+    private double[] displayTicks;
+    private int head = 0;
+    private int size = 0;
+
+    public ShotQueue(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        x = new double[capacity];
+        y = new double[capacity];
+        pressNanos = new long[capacity];
+        displayTicks = new double[capacity];
+    }
+
+    /**
+     * Queues a shot at window coordinates, pressed at the given System.nanoTime()
+     * while the world was shown at the given (fractional) world tick
+     */
+    public void add(double shotX, double shotY, long nanos, double displayTick) {
+        if (size == x.length) {
+            grow();
+        }
+        int slot = (head + size) % x.length;
+        x[slot] = shotX;
+        y[slot] = shotY;
+        pressNanos[slot] = nanos;
+        displayTicks[slot] = displayTick;
+        size++;
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        double[] newX = new double[capacity];
+        double[] newY = new double[capacity];
+        long[] newPress = new long[capacity];
+        double[] newDisplay = new double[capacity];
+        for (int i = 0; i < size; i++) {
+            int slot = (head + i) % x.length;
+            newX[i] = x[slot];
+            newY[i] = y[slot];
+            newPress[i] = pressNanos[slot];
+            newDisplay[i] = displayTicks[slot];
+        }
+        x = newX;
+        y = newY;
+        pressNanos = newPress;
+        displayTicks = newDisplay;
+        head = 0;
+    }
+
+    /**
+     * Drops the oldest shot; read it with the peek methods first
+     */
+    public void remove() {
+        head = (head + 1) % x.length;
+        size--;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    // Oldest queued shot
+    public double peekX() { return x[head]; }
+    public double peekY() { return y[head]; }
+    public long peekPressNanos() { return pressNanos[head]; }
+    public double peekDisplayTick() { return displayTicks[head]; }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+}
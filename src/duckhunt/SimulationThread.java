@@ -0,0 +1,194 @@
+// SimulationThread.java
+package duckhunt;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs the GameSimulation on its own thread at the fixed GameLoop step, so a
+ * slow FX frame (layout, GC, a window drag) no longer holds up duck motion,
+ * shot resolution or the end of a level.
+ *
+ * After every step the duck and game state is published to WorldSnapshots,
+ * which the FX thread renders and follows level endings from. Shots are
+ * queued here and resolved at the start of the next step, against the
+ * frame the player saw. The few changes the FX thread still makes to the
+ * simulation itself (starting a level) go through runLocked(),
+ * which holds the same lock as a step, so the two threads never interleave
+ * inside the simulation and every event producer is serialized.
+ *
+ * The press-to-hit time of each resolved shot is handed back the same way
+ * as GameEvents, through a single-producer ring, and recorded by the FX
+ * thread in drainHitLatencies(), so LatencyStats stays on one thread.
+ */
+public class SimulationThread {
+    private final GameSimulation simulation;
+    private final WorldSnapshots snapshots;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ShotQueue pendingShots = new ShotQueue(8);
+    private final Thread thread;
+    // Press-to-hit nanos of resolved shots, written here and drained by the FX thread
+    private final long[] hitLatencies = new long[64];
+    private volatile long latencyWriteIndex = 0;
+    private volatile long latencyReadIndex = 0;
+    private volatile boolean running = false;
+    private volatile boolean paused = true;
+
+    // Statistics; written by the simulation thread, read by the FX thread for reports
+    private volatile long steps = 0;
+    private volatile long lateSteps = 0;
+    private volatile long skippedSteps = 0;
+    private volatile long busyNanos = 0;
+
+    public SimulationThread(GameSimulation simulation, WorldSnapshots snapshots) {
+        this.simulation = simulation;
+        this.snapshots = snapshots;
+        this.thread = new Thread(this::run, "simulation");
+        thread.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Steps at a fixed rate; a step that starts late is caught up with, but
+     * never more than GameLoop.MAX_STEPS_PER_PULSE behind, so a long stall
+     * skips time instead of fast-forwarding through it
+     */
+    private void run() {
+        long next = System.nanoTime();
+        while (running) {
+            long now = System.nanoTime();
+            if (now < next) {
+                LockSupport.parkNanos(next - now);
+                continue;
+            }
+            if (paused) {
+                next = now + GameLoop.STEP_NANOS;
+                continue;
+            }
+
+            long behind = (now - next) / GameLoop.STEP_NANOS;
+            if (behind >= GameLoop.MAX_STEPS_PER_PULSE) {
+                skippedSteps += behind;
+                next += behind * GameLoop.STEP_NANOS;
+            } else if (behind > 0) {
+                lateSteps++;
+            }
+
+            step();
+            busyNanos += System.nanoTime() - now;
+            next += GameLoop.STEP_NANOS;
+        }
+    }
+
+    /**
+     * Resolves the queued shots, advances the simulation one step and publishes the result
+     */
+    private void step() {
+        lock.lock();
+        try {
+            while (!pendingShots.isEmpty()) {
+                DuckWorld world = simulation.getWorld();
+                double rewind = world.getHistoryTick() - pendingShots.peekDisplayTick();
+                if (simulation.shoot(pendingShots.peekX(), pendingShots.peekY(),
+                        Math.min(GameConstants.REWIND_FRAMES, Math.max(0, rewind))) >= 0) {
+                    publishHitLatency(System.nanoTime() - pendingShots.peekPressNanos());
+                }
+                pendingShots.remove();
+            }
+            simulation.tick();
+            steps++;
+            snapshots.publish(simulation, System.nanoTime());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Hands one press-to-hit time to the FX thread; a full ring drops it, as it is only a statistic
+     */
+    private void publishHitLatency(long nanos) {
+        long write = latencyWriteIndex;
+        if (write - latencyReadIndex < hitLatencies.length) {
+            hitLatencies[(int) (write % hitLatencies.length)] = nanos;
+            latencyWriteIndex = write + 1;
+        }
+    }
+
+    /**
+     * Records the press-to-hit times of the shots resolved since the last call; FX thread only
+     */
+    public void drainHitLatencies(LatencyStats stats) {
+        long read = latencyReadIndex;
+        long write = latencyWriteIndex;
+        for (; read < write; read++) {
+            stats.record(hitLatencies[(int) (read % hitLatencies.length)]);
+        }
+        latencyReadIndex = read;
+    }
+
+    /**
+     * Queues a shot for the next step; called on the FX thread
+     * @param displayTick world tick of the snapshot on screen when the input arrived
+     * @return false if no ammo is left for it once the shots already queued are fired
+     */
+    public boolean fire(double x, double y, long pressNanos, double displayTick) {
+        lock.lock();
+        try {
+            if (simulation.getState() != GameState.PLAYING || simulation.getAmmoLeft() <= pendingShots.size()) {
+                return false;
+            }
+            pendingShots.add(x, y, pressNanos, displayTick);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Changes the simulation from another thread between two steps, then
+     * publishes the result so the next frame already shows it
+     */
+    public void runLocked(Runnable action) {
+        lock.lock();
+        try {
+            action.run();
+            snapshots.publish(simulation, System.nanoTime());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops or resumes stepping, e.g. while the menus are shown; queued shots are dropped on pause
+     */
+    public void setPaused(boolean paused) {
+        if (paused) {
+            lock.lock();
+            try {
+                pendingShots.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+        this.paused = paused;
+    }
+
+    public String getStatistics() {
+        return String.format("steps=%d, late=%d, skipped=%d, busy %.1f%% of the step budget; snapshots %s",
+                steps, lateSteps, skippedSteps,
+                steps == 0 ? 0 : busyNanos * 100.0 / steps / GameLoop.STEP_NANOS, snapshots.getStatistics());
+    }
+
+    // Getters
+    public long getSteps() { return steps; }
+    public boolean isPaused() { return paused; }
+}
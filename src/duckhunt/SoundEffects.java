@@ -0,0 +1,234 @@
+// SoundEffects.java
+package duckhunt;
+
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Plays short sound effects from pools of pre-loaded players.
+ * Each effect owns a fixed number of voices that are prerolled once and
+ * rewound for reuse, so firing a sound never creates a new decoder. When all
+ * voices of an effect are busy, or the global polyphony cap is reached, the
+ * oldest playing voice is stolen. Pools may be preloaded from worker threads;
+ * playback stays on the FX thread.
+ */
+public class SoundEffects {
+    public static final int DEFAULT_VOICES = 2;
+    public static final int MAX_POLYPHONY = 8;
+
+    // Every effect the game plays and the number of voices it gets
+    public static final String[] GAME_EFFECTS = {
+            "assets/effects/Gunshot.mp3", "assets/effects/DuckFalls.mp3", "assets/effects/LevelCompleted.mp3",
+            "assets/effects/GameOver.mp3", "assets/effects/GameCompleted.mp3", "assets/effects/Intro.mp3"};
+    public static final int[] GAME_EFFECT_VOICES = {4, 3, 1, 1, 1, 1};
+
+    private static class Voice {
+        MediaPlayer player;
+        boolean busy;
+        boolean awaitingStart;
+        long requestedAt;
+        LatencyStats latencyStats;
+    }
+
+    private static class Effect {
+        Voice[] voices;
+    }
+
+    private final Map<String, Effect> effects = new ConcurrentHashMap<>();
+    private final double volume;
+    private int activeVoices = 0;
+
+    // Statistics
+    private long plays = 0;
+    private long steals = 0;
+    private long latencySamples = 0;
+    private long totalLatencyNanos = 0;
+    private long maxLatencyNanos = 0;
+
+    public SoundEffects(double volume) {
+        this.volume = volume;
+    }
+
+    /**
+     * Prerolls voices for every effect the game plays
+     */
+    public void preloadGameEffects() {
+        for (int i = 0; i < GAME_EFFECTS.length; i++) {
+            preload(GAME_EFFECTS[i], GAME_EFFECT_VOICES[i]);
+        }
+    }
+
+    /**
+     * Creates and prerolls a pool of voices for the given effect
+     */
+    public void preload(String soundPath, int voiceCount) {
+        if (effects.containsKey(soundPath)) {
+            return;
+        }
+        Effect effect = new Effect();
+        effect.voices = new Voice[voiceCount];
+        try {
+            Media media = new Media(new File(soundPath).toURI().toString());
+            for (int i = 0; i < voiceCount; i++) {
+                effect.voices[i] = createVoice(media);
+            }
+        } catch (Exception e) {
+            System.err.println("Could not load sound: " + soundPath + " - " + e.getMessage());
+            effect.voices = new Voice[0];
+        }
+        if (effects.putIfAbsent(soundPath, effect) != null) {
+            // Another worker finished the same effect first
+            for (Voice voice : effect.voices) {
+                voice.player.dispose();
+            }
+        }
+    }
+
+    private Voice createVoice(Media media) {
+        Voice voice = new Voice();
+        voice.player = new MediaPlayer(media);
+        voice.player.setVolume(volume);
+        voice.player.setOnPlaying(() -> recordLatency(voice));
+        voice.player.setOnEndOfMedia(() -> release(voice));
+        voice.player.setOnError(() -> {
+            System.err.println("Sound voice failed: " + voice.player.getError());
+            release(voice);
+        });
+        return voice;
+    }
+
+    /**
+     * Plays an effect on a free voice, stealing the oldest one if necessary
+     */
+    public void play(String soundPath) {
+        play(soundPath, System.nanoTime(), null);
+    }
+
+    /**
+     * Plays an effect and measures its start latency from an earlier moment,
+     * e.g. the input that caused it
+     * @param latencyStats also receives the latency when the voice starts; may be null
+     */
+    public void play(String soundPath, long requestedAt, LatencyStats latencyStats) {
+        Effect effect = effects.get(soundPath);
+        if (effect == null) {
+            // Not preloaded: pay the setup cost once, then reuse the pool
+            preload(soundPath, DEFAULT_VOICES);
+            effect = effects.get(soundPath);
+        }
+        if (effect.voices.length == 0) {
+            return;
+        }
+
+        Voice voice = findFreeVoice(effect);
+        if (voice == null || activeVoices >= MAX_POLYPHONY) {
+            Voice victim = voice == null ? oldestBusyVoice(effect) : oldestBusyVoice();
+            if (victim != null) {
+                steals++;
+                release(victim);
+                if (voice == null) {
+                    voice = victim;
+                }
+            }
+        }
+        if (voice == null) {
+            return;
+        }
+
+        plays++;
+        voice.busy = true;
+        voice.awaitingStart = true;
+        voice.requestedAt = requestedAt;
+        voice.latencyStats = latencyStats;
+        activeVoices++;
+        voice.player.seek(Duration.ZERO);
+        voice.player.play();
+    }
+
+    private Voice findFreeVoice(Effect effect) {
+        for (Voice voice : effect.voices) {
+            if (!voice.busy) {
+                return voice;
+            }
+        }
+        return null;
+    }
+
+    private Voice oldestBusyVoice(Effect effect) {
+        Voice oldest = null;
+        for (Voice voice : effect.voices) {
+            if (voice.busy && (oldest == null || voice.requestedAt < oldest.requestedAt)) {
+                oldest = voice;
+            }
+        }
+        return oldest;
+    }
+
+    private Voice oldestBusyVoice() {
+        Voice oldest = null;
+        for (Effect effect : effects.values()) {
+            Voice candidate = oldestBusyVoice(effect);
+            if (candidate != null && (oldest == null || candidate.requestedAt < oldest.requestedAt)) {
+                oldest = candidate;
+            }
+        }
+        return oldest;
+    }
+
+    private void release(Voice voice) {
+        if (voice.busy) {
+            voice.busy = false;
+            activeVoices--;
+        }
+        voice.player.stop();
+    }
+
+    private void recordLatency(Voice voice) {
+        if (!voice.awaitingStart) {
+            return;
+        }
+        long latency = System.nanoTime() - voice.requestedAt;
+        voice.awaitingStart = false;
+        latencySamples++;
+        totalLatencyNanos += latency;
+        maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+        if (voice.latencyStats != null) {
+            voice.latencyStats.record(latency);
+        }
+    }
+
+    /**
+     * Releases every native player
+     */
+    public void dispose() {
+        for (Effect effect : effects.values()) {
+            for (Voice voice : effect.voices) {
+                voice.player.dispose();
+            }
+        }
+        effects.clear();
+        activeVoices = 0;
+    }
+
+    // Statistics
+    public long getPlays() { return plays; }
+    public long getSteals() { return steals; }
+    public int getActiveVoices() { return activeVoices; }
+
+    public double getAverageLatencyMillis() {
+        return latencySamples == 0 ? 0 : totalLatencyNanos / (double) latencySamples / 1_000_000.0;
+    }
+
+    public double getMaxLatencyMillis() {
+        return maxLatencyNanos / 1_000_000.0;
+    }
+
+    public String getStatistics() {
+        return String.format("plays=%d, steals=%d, active=%d, latency avg=%.2f ms max=%.2f ms",
+                plays, steals, activeVoices, getAverageLatencyMillis(), getMaxLatencyMillis());
+    }
+}
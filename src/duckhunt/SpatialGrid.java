@@ -0,0 +1,141 @@
+// SpatialGrid.java
+package duckhunt;
+
+import java.util.Arrays;
+
+/**
+ * Uniform-grid broad phase over the playfield for shot hit-testing.
+ * Each duck is filed under the cell holding its top-left corner, using
+ * intrusive linked lists in int arrays, and is only relinked when it crosses
+ * into another cell. Cells are as large as a duck, so a point can only be
+ * covered by ducks filed in its own cell or the cells left of and above it.
+ */
+public class SpatialGrid {
+    private static final int NONE = -1;
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[] cellHead;
+    private int[] next = new int[0];
+    private int[] previous = new int[0];
+    private int[] cellOf = new int[0];
+
+    public SpatialGrid(double width, double height, double cellSize) {
+        this.cellSize = cellSize;
+        this.columns = (int) Math.ceil(width / cellSize) + 1;
+        this.rows = (int) Math.ceil(height / cellSize) + 1;
+        this.cellHead = new int[columns * rows];
+        Arrays.fill(cellHead, NONE);
+    }
+
+    /**
+     * Makes room for entries with indices below the given capacity
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity <= cellOf.length) {
+            return;
+        }
+        int oldLength = cellOf.length;
+        next = Arrays.copyOf(next, capacity);
+        previous = Arrays.copyOf(previous, capacity);
+        cellOf = Arrays.copyOf(cellOf, capacity);
+        Arrays.fill(cellOf, oldLength, capacity, NONE);
+    }
+
+    public void clear() {
+        Arrays.fill(cellHead, NONE);
+        Arrays.fill(cellOf, NONE);
+    }
+
+    public void insert(int entry, double x, double y) {
+        link(entry, cellIndex(x, y));
+    }
+
+    /**
+     * Updates an entry's position; does nothing unless it changed cells
+     */
+    public void move(int entry, double x, double y) {
+        int cell = cellIndex(x, y);
+        if (cell != cellOf[entry]) {
+            unlink(entry);
+            link(entry, cell);
+        }
+    }
+
+    public void remove(int entry) {
+        unlink(entry);
+    }
+
+    /**
+     * Writes every entry that may cover the point into out and returns how many were written
+     */
+    public int query(double x, double y, int[] out) {
+        int column = column(x);
+        int row = row(y);
+        int found = 0;
+        for (int r = Math.max(0, row - 1); r <= row; r++) {
+            for (int c = Math.max(0, column - 1); c <= column; c++) {
+                for (int entry = cellHead[r * columns + c]; entry != NONE && found < out.length; entry = next[entry]) {
+                    out[found++] = entry;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Like query(), but also returns entries that have moved up to margin away
+     * since they could have covered the point
+     */
+    public int query(double x, double y, double margin, int[] out) {
+        int found = 0;
+        for (int r = row(y - cellSize - margin); r <= row(y + margin); r++) {
+            for (int c = column(x - cellSize - margin); c <= column(x + margin); c++) {
+                for (int entry = cellHead[r * columns + c]; entry != NONE && found < out.length; entry = next[entry]) {
+                    out[found++] = entry;
+                }
+            }
+        }
+        return found;
+    }
+
+    private void link(int entry, int cell) {
+        int head = cellHead[cell];
+        next[entry] = head;
+        previous[entry] = NONE;
+        if (head != NONE) {
+            previous[head] = entry;
+        }
+        cellHead[cell] = entry;
+        cellOf[entry] = cell;
+    }
+
+    private void unlink(int entry) {
+        int cell = cellOf[entry];
+        if (cell == NONE) {
+            return;
+        }
+        if (previous[entry] != NONE) {
+            next[previous[entry]] = next[entry];
+        } else {
+            cellHead[cell] = next[entry];
+        }
+        if (next[entry] != NONE) {
+            previous[next[entry]] = previous[entry];
+        }
+        cellOf[entry] = NONE;
+    }
+
+    private int cellIndex(double x, double y) {
+        return row(y) * columns + column(x);
+    }
+
+    private int column(double x) {
+        return Math.max(0, Math.min(columns - 1, (int) (x / cellSize)));
+    }
+
+    private int row(double y) {
+        return Math.max(0, Math.min(rows - 1, (int) (y / cellSize)));
+    }
+}
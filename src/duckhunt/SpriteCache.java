@@ -0,0 +1,89 @@
+// SpriteCache.java
+package duckhunt;
+
+import javafx.scene.image.Image;
+
+/**
+ * Decodes every duck sprite frame once and hands out shared Image instances.
+ * Frames are scaled to the on-screen duck size at decode time, so the game
+ * loop only swaps references instead of reading sprites again.
+ */
+public class SpriteCache {
+    public static final String[] COLORS = GameConstants.DUCK_COLORS;
+    public static final int FRAME_COUNT = 8;
+    public static final double DUCK_SIZE = 60 * GameConstants.SCALE;
+
+    private static final Image[][] duckFrames = new Image[COLORS.length][FRAME_COUNT];
+    private static long hits = 0;
+    private static long misses = 0;
+    private static long decodeNanos = 0;
+
+    private SpriteCache() {
+    }
+
+    /**
+     * Decodes all duck frames for every color up front
+     */
+    public static void preload() {
+        for (String color : COLORS) {
+            for (int frame = 1; frame <= FRAME_COUNT; frame++) {
+                getDuckFrame(color, frame);
+            }
+        }
+        System.out.println("Sprite cache preloaded: " + getStatistics());
+    }
+
+    /**
+     * Returns the shared image for the given duck color and frame (1-based)
+     */
+    public static Image getDuckFrame(String color, int frame) {
+        return getDuckFrame(colorIndex(color), frame);
+    }
+
+    /**
+     * Returns the shared image for the given color index into COLORS and frame (1-based)
+     */
+    public static Image getDuckFrame(int colorIndex, int frame) {
+        if (colorIndex < 0 || colorIndex >= COLORS.length || frame < 1 || frame > FRAME_COUNT) {
+            return null;
+        }
+
+        Image image = duckFrames[colorIndex][frame - 1];
+        if (image != null) {
+            hits++;
+            return image;
+        }
+
+        misses++;
+        image = decode("duck_" + COLORS[colorIndex] + "/" + frame);
+        duckFrames[colorIndex][frame - 1] = image;
+        return image;
+    }
+
+    private static Image decode(String name) {
+        long start = System.nanoTime();
+        try {
+            return Assets.getImage(name, (int) DUCK_SIZE, (int) DUCK_SIZE);
+        } finally {
+            decodeNanos += System.nanoTime() - start;
+        }
+    }
+
+    public static int colorIndex(String color) {
+        for (int i = 0; i < COLORS.length; i++) {
+            if (COLORS[i].equals(color)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Statistics
+    public static long getHits() { return hits; }
+    public static long getMisses() { return misses; }
+    public static long getDecodeNanos() { return decodeNanos; }
+
+    public static String getStatistics() {
+        return String.format("hits=%d, misses=%d, decode=%.2f ms", hits, misses, decodeNanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,299 @@
+// TextureAtlas.java
+package duckhunt;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads a packed sprite atlas written by AtlasPacker.
+ *
+ * Pack layout (big-endian):
+ *   int magic 'DHAT', short version, int entryCount,
+ *   entryCount x { short nameLength, byte[] name (UTF-8), short frame, short x, short y, short width, short height },
+ *   int pngLength, byte[] png
+ *
+ * The file is memory-mapped once, the sheet PNG is decoded straight from the
+ * mapping, and every sprite is sliced out of the decoded sheet in memory.
+ */
+public class TextureAtlas {
+    public static final int MAGIC = 0x44484154; // "DHAT"
+    public static final short VERSION = 1;
+
+    /**
+     * Location and frame metadata of one sprite inside the sheet
+     */
+    public static class Region {
+        final String name;
+        final int frame;
+        final int x, y, width, height;
+
+        Region(String name, int frame, int x, int y, int width, int height) {
+            this.name = name;
+            this.frame = frame;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        public String getName() { return name; }
+        public int getFrame() { return frame; }
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+    }
+
+    /**
+     * The parsed index and the still-encoded sheet of a pack; needs no JavaFX,
+     * so the sprite pixels can also be read with ImageIO (see Assets.getPixels)
+     */
+    public static class Pack {
+        final Region[] regions;
+        final ByteBuffer png;
+
+        private Pack(Region[] regions, ByteBuffer png) {
+            this.regions = regions;
+            this.png = png;
+        }
+
+        /**
+         * Memory-maps a pack and parses its index
+         */
+        public static Pack map(String packPath) throws IOException {
+            try (RandomAccessFile file = new RandomAccessFile(packPath, "r");
+                 FileChannel channel = file.getChannel()) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+                if (buffer.getInt() != MAGIC) {
+                    throw new IOException("Not an atlas pack: " + packPath);
+                }
+                short version = buffer.getShort();
+                if (version != VERSION) {
+                    throw new IOException("Unsupported atlas version " + version + " in " + packPath);
+                }
+
+                int entryCount = buffer.getInt();
+                Region[] entries = new Region[entryCount];
+                for (int i = 0; i < entryCount; i++) {
+                    byte[] nameBytes = new byte[buffer.getShort()];
+                    buffer.get(nameBytes);
+                    entries[i] = new Region(new String(nameBytes, StandardCharsets.UTF_8),
+                            buffer.getShort(), buffer.getShort(), buffer.getShort(),
+                            buffer.getShort(), buffer.getShort());
+                }
+
+                int pngLength = buffer.getInt();
+                ByteBuffer png = buffer.slice();
+                png.limit(pngLength);
+                return new Pack(entries, png);
+            }
+        }
+
+        public Region[] getRegions() { return regions; }
+
+        /**
+         * A fresh stream over the encoded sheet PNG
+         */
+        public InputStream openSheet() {
+            return new ByteBufferInputStream(png.duplicate());
+        }
+    }
+
+    private final Map<String, Region> regions = new HashMap<>();
+    private final Image sheet;
+
+    private TextureAtlas(Image sheet) {
+        this.sheet = sheet;
+    }
+
+    /**
+     * Memory-maps and parses an atlas pack
+     */
+    public static TextureAtlas load(String packPath) throws IOException {
+        Pack pack = Pack.map(packPath);
+        Image sheet = new Image(pack.openSheet());
+        if (sheet.isError()) {
+            throw new IOException("Could not decode atlas sheet: " + sheet.getException());
+        }
+
+        TextureAtlas atlas = new TextureAtlas(sheet);
+        for (Region region : pack.regions) {
+            atlas.regions.put(region.name, region);
+        }
+        return atlas;
+    }
+
+    /**
+     * Returns true if the atlas holds a sprite with the given name
+     */
+    public boolean contains(String name) {
+        return regions.containsKey(name);
+    }
+
+    public Region getRegion(String name) {
+        return regions.get(name);
+    }
+
+    /**
+     * Copies a sprite out of the sheet at its native size
+     */
+    public Image slice(String name) {
+        Region region = regions.get(name);
+        if (region == null) {
+            return null;
+        }
+        return new WritableImage(sheet.getPixelReader(), region.x, region.y, region.width, region.height);
+    }
+
+    /**
+     * Copies a sprite out of the sheet and resizes it with nearest-neighbor sampling
+     */
+    public Image slice(String name, int width, int height) {
+        Region region = regions.get(name);
+        if (region == null) {
+            return null;
+        }
+        if (region.width == width && region.height == height) {
+            return slice(name);
+        }
+
+        int[] source = new int[region.width * region.height];
+        sheet.getPixelReader().getPixels(region.x, region.y, region.width, region.height,
+                PixelFormat.getIntArgbInstance(), source, 0, region.width);
+        return scaleNearest(source, region.width, region.height, width, height);
+    }
+
+    /**
+     * Copies a sprite out of the sheet and fits it into the given box with smooth
+     * sampling, keeping its aspect ratio like new Image(url, width, height, true, true)
+     */
+    public Image sliceSmooth(String name, int width, int height) {
+        Region region = regions.get(name);
+        if (region == null) {
+            return null;
+        }
+        double fit = Math.min(width / (double) region.width, height / (double) region.height);
+        int fittedWidth = Math.max(1, (int) Math.round(region.width * fit));
+        int fittedHeight = Math.max(1, (int) Math.round(region.height * fit));
+        if (region.width == fittedWidth && region.height == fittedHeight) {
+            return slice(name);
+        }
+
+        int[] source = new int[region.width * region.height];
+        sheet.getPixelReader().getPixels(region.x, region.y, region.width, region.height,
+                PixelFormat.getIntArgbInstance(), source, 0, region.width);
+        return scaleSmooth(source, region.width, region.height, fittedWidth, fittedHeight);
+    }
+
+    /**
+     * Resizes an ARGB pixel array by averaging the source area under each
+     * target pixel, weighted by alpha so transparent edges do not darken
+     */
+    static WritableImage scaleSmooth(int[] source, int sourceWidth, int sourceHeight, int width, int height) {
+        int[] scaled = new int[width * height];
+        double stepX = sourceWidth / (double) width;
+        double stepY = sourceHeight / (double) height;
+        for (int y = 0; y < height; y++) {
+            double top = y * stepY, bottom = top + stepY;
+            for (int x = 0; x < width; x++) {
+                double left = x * stepX, right = left + stepX;
+                double a = 0, r = 0, g = 0, b = 0, area = 0;
+                for (int sy = (int) top; sy < Math.min(sourceHeight, Math.ceil(bottom)); sy++) {
+                    double wy = Math.min(bottom, sy + 1) - Math.max(top, sy);
+                    for (int sx = (int) left; sx < Math.min(sourceWidth, Math.ceil(right)); sx++) {
+                        double weight = wy * (Math.min(right, sx + 1) - Math.max(left, sx));
+                        int color = source[sy * sourceWidth + sx];
+                        double alpha = (color >>> 24) * weight;
+                        a += alpha;
+                        r += ((color >> 16) & 0xFF) * alpha;
+                        g += ((color >> 8) & 0xFF) * alpha;
+                        b += (color & 0xFF) * alpha;
+                        area += weight;
+                    }
+                }
+                if (a > 0) {
+                    scaled[y * width + x] = (int) Math.round(a / area) << 24 | (int) Math.round(r / a) << 16
+                            | (int) Math.round(g / a) << 8 | (int) Math.round(b / a);
+                }
+            }
+        }
+
+        WritableImage image = new WritableImage(width, height);
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), scaled, 0, width);
+        return image;
+    }
+
+    /**
+     * Resizes an ARGB pixel array with nearest-neighbor sampling
+     */
+    static WritableImage scaleNearest(int[] source, int sourceWidth, int sourceHeight, int width, int height) {
+        int[] scaled = new int[width * height];
+        for (int y = 0; y < height; y++) {
+            int sourceRow = (y * sourceHeight / height) * sourceWidth;
+            for (int x = 0; x < width; x++) {
+                scaled[y * width + x] = source[sourceRow + x * sourceWidth / width];
+            }
+        }
+
+        WritableImage image = new WritableImage(width, height);
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), scaled, 0, width);
+        return image;
+    }
+
+    /**
+     * Resizes an already decoded image with nearest-neighbor sampling
+     */
+    static WritableImage scaleNearest(Image image, int width, int height) {
+        int sourceWidth = (int) image.getWidth();
+        int sourceHeight = (int) image.getHeight();
+        int[] source = new int[sourceWidth * sourceHeight];
+        PixelReader reader = image.getPixelReader();
+        reader.getPixels(0, 0, sourceWidth, sourceHeight, PixelFormat.getIntArgbInstance(), source, 0, sourceWidth);
+        return scaleNearest(source, sourceWidth, sourceHeight, width, height);
+    }
+
+    public int size() {
+        return regions.size();
+    }
+
+    /**
+     * Streams bytes from a mapped buffer without copying it to the heap first
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
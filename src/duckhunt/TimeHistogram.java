@@ -0,0 +1,67 @@
+// TimeHistogram.java
+package duckhunt;
+
+/**
+ * Histogram of durations in fixed 0.1 ms buckets, shared by FrameStats and
+ * LatencyStats so both report percentiles the same way. Recording and reading
+ * percentiles allocate nothing and sort nothing; durations past the last
+ * bucket are collected in an overflow bucket that reports the real maximum.
+ */
+public class TimeHistogram {
+    public static final long BUCKET_NANOS = 100_000L;
+
+    private final long[] histogram;
+    private final int bucketCount;
+    private long samples = 0;
+    private long totalNanos = 0;
+    private long maxNanos = 0;
+
+    /**
+     * @param bucketCount buckets before the overflow bucket, e.g. 1000 for 0 - 100 ms
+     */
+    public TimeHistogram(int bucketCount) {
+        this.bucketCount = bucketCount;
+        this.histogram = new long[bucketCount + 1];
+    }
+
+    public void record(long nanos) {
+        nanos = Math.max(0, nanos);
+        histogram[(int) Math.min(bucketCount, nanos / BUCKET_NANOS)]++;
+        samples++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+    }
+
+    /**
+     * Duration in milliseconds below which the given fraction of samples fall
+     */
+    public double getPercentileMillis(double fraction) {
+        if (samples == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(samples * fraction);
+        long seen = 0;
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            seen += histogram[bucket];
+            if (seen >= target) {
+                // Upper edge of the bucket
+                return (bucket + 1) * BUCKET_NANOS / 1_000_000.0;
+            }
+        }
+        return getMaxMillis();
+    }
+
+    public void reset() {
+        for (int bucket = 0; bucket <= bucketCount; bucket++) {
+            histogram[bucket] = 0;
+        }
+        samples = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    // Getters
+    public long getSamples() { return samples; }
+    public double getAverageMillis() { return samples == 0 ? 0 : totalNanos / (double) samples / 1_000_000.0; }
+    public double getMaxMillis() { return maxNanos / 1_000_000.0; }
+}
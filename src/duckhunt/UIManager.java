@@ -1,4 +1,6 @@
 // UIManager.java
+package duckhunt;
+
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.geometry.Pos;
@@ -30,7 +32,7 @@ public class UIManager {
 
         // Background
         try {
-            ImageView background = new ImageView(new Image(new File("assets/welcome/1.png").toURI().toString()));
+            ImageView background = new ImageView(Assets.getImage("welcome/1"));
             background.setFitWidth(GameConstants.WINDOW_WIDTH);
             background.setFitHeight(GameConstants.WINDOW_HEIGHT);
             titlePane.getChildren().add(background);
@@ -71,7 +73,7 @@ public class UIManager {
         StackPane selectionPane = new StackPane();
 
         try {
-            ImageView background = new ImageView(new Image(new File("assets/background/" + selectedBackground + ".png").toURI().toString()));
+            ImageView background = new ImageView(Assets.getImage("background/" + selectedBackground));
             background.setFitWidth(GameConstants.WINDOW_WIDTH);
             background.setFitHeight(GameConstants.WINDOW_HEIGHT);
             selectionPane.getChildren().add(background);
@@ -81,7 +83,7 @@ public class UIManager {
 
         // Show crosshair preview
         try {
-            ImageView crosshair = new ImageView(new Image(new File("assets/crosshair/" + selectedCrosshair + ".png").toURI().toString()));
+            ImageView crosshair = new ImageView(Assets.getImage("crosshair/" + selectedCrosshair));
             crosshair.setFitWidth(30 * GameConstants.SCALE);
             crosshair.setFitHeight(30 * GameConstants.SCALE);
             StackPane.setAlignment(crosshair, Pos.CENTER);
@@ -101,7 +103,7 @@ public class UIManager {
 
         // Add background
         try {
-            ImageView background = new ImageView(new Image(new File("assets/background/" + selectedBackground + ".png").toURI().toString()));
+            ImageView background = new ImageView(Assets.getImage("background/" + selectedBackground));
             background.setFitWidth(GameConstants.WINDOW_WIDTH);
             background.setFitHeight(GameConstants.WINDOW_HEIGHT);
             gamePane.getChildren().add(background);
@@ -136,7 +138,7 @@ public class UIManager {
      */
     public void addForeground(Pane gamePane, int selectedBackground) {
         try {
-            ImageView foreground = new ImageView(new Image(new File("assets/foreground/" + selectedBackground + ".png").toURI().toString()));
+            ImageView foreground = new ImageView(Assets.getImage("foreground/" + selectedBackground));
             foreground.setFitWidth(GameConstants.WINDOW_WIDTH);
             foreground.setFitHeight(GameConstants.WINDOW_HEIGHT);
             gamePane.getChildren().add(foreground);
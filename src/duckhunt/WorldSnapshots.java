@@ -0,0 +1,158 @@
+// WorldSnapshots.java
+package duckhunt;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands copies of the duck state from the simulation thread to the FX thread.
+ *
+ * The simulation writes each step into a back buffer and swaps it with the
+ * shared middle buffer; the FX thread swaps the middle buffer into its front
+ * buffer at the start of a frame when a newer one is there, then reads only
+ * the front buffer. Three snapshots in total, so the writer never waits for
+ * the reader and the reader never sees a half-written step. A snapshot that
+ * was replaced before the FX thread took it counts as dropped; a frame that
+ * found nothing newer and showed the same step again counts as duplicated.
+ * Each snapshot also carries the game state, ammo and level start count, so
+ * the FX thread follows level endings without relying on events.
+ */
+public class WorldSnapshots implements DuckRenderState {
+    // Set on the shared index while the middle buffer holds a snapshot the reader has not taken
+    private static final int FRESH = 4;
+    private static final int INDEX = 3;
+
+    /**
+     * Render-relevant state of every duck after one step
+     */
+    private static final class Snapshot {
+        int count = 0;
+        long tick = 0;
+        long publishNanos = 0;
+        GameState state = GameState.TITLE;
+        int ammoLeft = 0;
+        long levelStarts = 0;
+        byte[] color = new byte[0];
+        byte[] frame = new byte[0];
+        byte[] flip = new byte[0];
+        double[] previousX = new double[0], previousY = new double[0];
+        double[] x = new double[0], y = new double[0];
+
+        void copy(GameSimulation simulation) {
+            DuckWorld world = simulation.getWorld();
+            state = simulation.getState();
+            ammoLeft = simulation.getAmmoLeft();
+            levelStarts = simulation.getLevelStarts();
+            count = world.getCount();
+            tick = world.getHistoryTick();
+            if (color.length < count) {
+                int capacity = Math.max(count, color.length * 2);
+                color = new byte[capacity];
+                frame = new byte[capacity];
+                flip = new byte[capacity];
+                previousX = new double[capacity];
+                previousY = new double[capacity];
+                x = new double[capacity];
+                y = new double[capacity];
+            }
+            for (int i = 0; i < count; i++) {
+                color[i] = (byte) world.getColor(i);
+                frame[i] = (byte) world.getSpriteFrame(i);
+                flip[i] = (byte) ((world.getScaleX(i) < 0 ? 1 : 0) | (world.getScaleY(i) < 0 ? 2 : 0));
+                previousX[i] = world.getRenderX(i, 0);
+                previousY[i] = world.getRenderY(i, 0);
+                x[i] = world.getRenderX(i, 1);
+                y[i] = world.getRenderY(i, 1);
+            }
+        }
+    }
+
+    private final Snapshot[] buffers = {new Snapshot(), new Snapshot(), new Snapshot()};
+    private final AtomicInteger middle = new AtomicInteger(1);
+    // Writer side
+    private int back = 0;
+    private long published = 0;
+    private long dropped = 0;
+    // Reader side
+    private int front = 2;
+    private Snapshot current = buffers[2];
+    private long acquired = 0;
+    private long duplicated = 0;
+
+    /**
+     * Copies the simulation into the back buffer and makes it the newest snapshot; writers hold the simulation lock
+     */
+    public void publish(GameSimulation simulation, long nanos) {
+        Snapshot snapshot = buffers[back];
+        snapshot.copy(simulation);
+        snapshot.publishNanos = nanos;
+        int previous = middle.getAndSet(back | FRESH);
+        if ((previous & FRESH) != 0) {
+            dropped++;
+        }
+        back = previous & INDEX;
+        published++;
+    }
+
+    /**
+     * Switches to the newest snapshot, if there is one, for the frame about to be drawn; reader thread only
+     * @return interpolation alpha for that snapshot: the fraction of a step since it was published
+     */
+    public double acquire(long now) {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX;
+            current = buffers[front];
+            acquired++;
+        } else {
+            duplicated++;
+        }
+        double alpha = (now - current.publishNanos) / (double) GameLoop.STEP_NANOS;
+        return Math.max(0, Math.min(1, alpha));
+    }
+
+    // Render state of the acquired snapshot; indices past its count belong to ducks it does not know yet
+    @Override
+    public int getCount() { return current.count; }
+
+    @Override
+    public int getColor(int i) { return i < current.count ? current.color[i] : 0; }
+
+    @Override
+    public int getSpriteFrame(int i) { return i < current.count ? current.frame[i] : 1; }
+
+    @Override
+    public double getScaleX(int i) { return i < current.count && (current.flip[i] & 1) != 0 ? -1 : 1; }
+
+    @Override
+    public double getScaleY(int i) { return i < current.count && (current.flip[i] & 2) != 0 ? -1 : 1; }
+
+    @Override
+    public double getRenderX(int i, double alpha) {
+        if (i >= current.count) {
+            return -DuckWorld.DUCK_SIZE;
+        }
+        return current.previousX[i] + (current.x[i] - current.previousX[i]) * alpha;
+    }
+
+    @Override
+    public double getRenderY(int i, double alpha) {
+        if (i >= current.count) {
+            return -DuckWorld.DUCK_SIZE;
+        }
+        return current.previousY[i] + (current.y[i] - current.previousY[i]) * alpha;
+    }
+
+    /**
+     * World tick of the acquired snapshot
+     */
+    public long getTick() { return current.tick; }
+
+    // Game state of the acquired snapshot
+    public GameState getState() { return current.state; }
+    public int getAmmoLeft() { return current.ammoLeft; }
+    public long getLevelStarts() { return current.levelStarts; }
+
+    public String getStatistics() {
+        return String.format("published=%d, shown=%d, dropped=%d, duplicated frames=%d",
+                published, acquired, dropped, duplicated);
+    }
+}